@@ -0,0 +1,68 @@
+package cronExpression.benchmark;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronExpression;
+import cronExpression.parser.CronExpressionDescription;
+import cronExpression.parser.CronSchedule;
+import cronExpression.schedule.FireTimeCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+    Evaluation of compiled schedules: bit test matching and next/previous fire time computation.
+    Run with: java -jar target/benchmarks.jar EvaluationBenchmark -prof gc
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EvaluationBenchmark {
+    // 2024-02-28T12:34:56Z, a leap year near the end of a month keeps day and month rollover on the path
+    private static final long NOW = 1709123696000L;
+
+    @Param({
+            "* * * * * /usr/bin/find",
+            "*/15 0 1,15 * 1-5 /usr/bin/find",
+            "0 0 * * * /usr/bin/backup",
+            "30 2 1-7 */3 0 /usr/bin/report",
+            "0 12 29 2 * /usr/bin/leap"
+    })
+    public String expression;
+
+    private CronSchedule cronSchedule;
+
+    @Setup
+    public void setUp() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        this.cronSchedule = new CronExpressionDescription(new CronExpression(this.expression)).getSchedule();
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return this.cronSchedule.matches(34, 12, 28, 2, 3);
+    }
+
+    @Benchmark
+    public long nextFireTime() {
+        return FireTimeCalculator.nextFireTime(this.cronSchedule, NOW);
+    }
+
+    @Benchmark
+    public long previousFireTime() {
+        return FireTimeCalculator.previousFireTime(this.cronSchedule, NOW);
+    }
+}
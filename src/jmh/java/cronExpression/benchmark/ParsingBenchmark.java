@@ -0,0 +1,118 @@
+package cronExpression.benchmark;
+
+import cronExpression.cache.CronDescriptionCache;
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronExpression;
+import cronExpression.parser.CronExpressionDescription;
+import cronExpression.render.JsonDescriptionRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/*
+    Parsing and description rendering over a corpus of wildcards, steps, ranges, lists and invalid expressions.
+    Invalid expressions return the exception message so that the cost of failing is measured as well.
+    Run with: java -jar target/benchmarks.jar ParsingBenchmark -prof gc
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParsingBenchmark {
+
+    @Param({
+            "* * * * * /usr/bin/find",
+            "*/15 0 1,15 * 1-5 /usr/bin/find",
+            "0 0 * * * /usr/bin/backup",
+            "30 2 1-7 */3 0 /usr/bin/report",
+            "*/5 9-17 * * 1-5 /usr/bin/poll",
+            "*/15 59 1,15 * 1-5 /usr/bin/find",
+            "*/A 20 1-3 3 2-3 /usr"
+    })
+    public String expression;
+
+    private CronExpression cronExpression;
+    private CronExpressionDescription cronExpressionDescription;
+    private CronDescriptionCache cronDescriptionCache;
+    private final JsonDescriptionRenderer jsonDescriptionRenderer = new JsonDescriptionRenderer();
+    private final StringBuilder out = new StringBuilder();
+
+    @Setup
+    public void setUp() throws EmptyExpressionException, IncorrectArgumentsException {
+        this.cronExpression = new CronExpression(this.expression);
+        this.cronExpressionDescription = new CronExpressionDescription(this.cronExpression);
+        this.cronDescriptionCache = new CronDescriptionCache(1024);
+    }
+
+    @Benchmark
+    public CronExpression cronExpression() throws EmptyExpressionException {
+        return new CronExpression(this.expression);
+    }
+
+    @Benchmark
+    public CronExpressionDescription cronExpressionDescription() throws IncorrectArgumentsException {
+        return new CronExpressionDescription(this.cronExpression);
+    }
+
+    @Benchmark
+    public Object schedule() throws IncorrectArgumentsException {
+        try {
+            return new CronExpressionDescription(this.cronExpression).getSchedule();
+        } catch (InvalidInputException exception) {
+            return exception.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String description() throws IncorrectArgumentsException {
+        try {
+            return new CronExpressionDescription(this.cronExpression).getDescription();
+        } catch (InvalidInputException exception) {
+            return exception.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String descriptionOfCompiledSchedule() {
+        try {
+            return this.cronExpressionDescription.getDescription();
+        } catch (InvalidInputException exception) {
+            return exception.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String cachedDescription() throws EmptyExpressionException, IncorrectArgumentsException {
+        try {
+            return this.cronDescriptionCache.getDescription(this.expression);
+        } catch (InvalidInputException exception) {
+            return exception.getMessage();
+        }
+    }
+
+    @Benchmark
+    public Object jsonDescriptionOfCompiledSchedule() throws IOException {
+        this.out.setLength(0);
+        try {
+            this.cronExpressionDescription.describeTo(this.out, this.jsonDescriptionRenderer);
+            return this.out;
+        } catch (InvalidInputException exception) {
+            return exception.getMessage();
+        }
+    }
+}
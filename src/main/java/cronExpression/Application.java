@@ -1,24 +1,137 @@
 package cronExpression;
 
+import cronExpression.batch.BatchDescriber;
+import cronExpression.cache.CronDescriptionCache;
 import cronExpression.parser.CronExpression;
 import cronExpression.parser.CronExpressionDescription;
+import cronExpression.parser.QuartzExpressionDescription;
+import cronExpression.server.DescriptionServer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static cronExpression.errorMessages.ErrorMessages.EMPTY_EXPRESSION;
+import static cronExpression.errorMessages.ErrorMessages.INVALID_PORT;
+
 public class Application {
 	private static final Logger logger = LoggerFactory.getLogger(Application.class);
+
+	// Reads expressions line by line from the file passed after it, or from stdin if no file or "-" is passed
+	private static final String BATCH_OPTION = "--batch";
+	private static final String STDIN = "-";
+
+	// Describes the Quartz expression passed after it, for ex: "0 15 10 ? * 6L"
+	private static final String QUARTZ_OPTION = "--quartz";
+
+	// Serves descriptions over HTTP on the loopback interface, on the port passed after it
+	private static final String SERVER_OPTION = "--server";
+	private static final int MAXIMUM_PORT = 65535;
+
+	// Distinct schedules kept in memory during a batch run, crontabs tend to repeat a small set of schedules
+	private static final int BATCH_CACHE_SIZE = 10_000;
+	private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
     public static void main(String[] args) {
-		String expression = args[0];
+		if(args.length == 0) {
+			logger.error(EMPTY_EXPRESSION);
+			return;
+		}
+		if(BATCH_OPTION.equals(args[0])) {
+			describeBatch(args.length > 1 ? args[1] : STDIN);
+			return;
+		}
+		if(SERVER_OPTION.equals(args[0])) {
+			int port = args.length > 1 ? parsePort(args[1]) : -1;
+			if(port < 0) {
+				logger.error(INVALID_PORT);
+				return;
+			}
+			serve(port);
+			return;
+		}
+		boolean quartz = QUARTZ_OPTION.equals(args[0]);
+		if(quartz && args.length == 1) {
+			logger.error(EMPTY_EXPRESSION);
+			return;
+		}
+		String expression = quartz ? args[1] : args[0];
         try {
         	CronExpression cronExpression = new CronExpression(expression);
-			CronExpressionDescription cronExpressionDescription = new CronExpressionDescription(cronExpression);
 			// Keeping sysout to preserve output format
-			System.out.println(cronExpressionDescription.getDescription());
+			if(quartz) {
+				System.out.println(new QuartzExpressionDescription(cronExpression).getDescription());
+			} else {
+				System.out.println(new CronExpressionDescription(cronExpression).getDescription());
+			}
 		} catch (Exception exception) {
 			// Catches NumberFormatException, IncorrectArgumentsException and EmptyExpressionException
 			// Have different exceptions here if operations performed on them are different
 			logger.error(exception.getMessage());
 		}
 	}
-}
\ No newline at end of file
+
+	/*
+		Streams descriptions of all expressions in source to stdout, errors are logged per line without stopping the run
+	 */
+	private static void describeBatch(String source) {
+		BatchDescriber batchDescriber = new BatchDescriber(new CronDescriptionCache(BATCH_CACHE_SIZE));
+		Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, Charset.defaultCharset()), OUTPUT_BUFFER_SIZE);
+		try (BufferedReader reader = STDIN.equals(source)
+				? new BufferedReader(new InputStreamReader(System.in, Charset.defaultCharset()))
+				: Files.newBufferedReader(Paths.get(source), Charset.defaultCharset())) {
+			long failures = batchDescriber.describeAll(reader, writer,
+					(message, lineNumber) -> logger.error("Line {}: {}", lineNumber, message));
+			if(failures > 0) {
+				logger.error("{} line(s) could not be described", failures);
+			}
+		} catch (IOException exception) {
+			logger.error(exception.getMessage());
+		}
+	}
+
+	/*
+		Port from 1 to MAXIMUM_PORT or -1 if value is not one
+	 */
+	private static int parsePort(String value) {
+		try {
+			int port = Integer.parseInt(value.trim());
+			return port >= 1 && port <= MAXIMUM_PORT ? port : -1;
+		} catch (NumberFormatException exception) {
+			return -1;
+		}
+	}
+
+	/*
+		Starts DescriptionServer on a bounded pool of one thread per processor, the JVM keeps running until it is killed
+	 */
+	private static void serve(int port) {
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		try {
+			DescriptionServer descriptionServer = new DescriptionServer(
+					new InetSocketAddress(InetAddress.getLoopbackAddress(), port), executor,
+					new CronDescriptionCache(BATCH_CACHE_SIZE));
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+				descriptionServer.close();
+				executor.shutdown();
+			}));
+			descriptionServer.start();
+		} catch (IOException exception) {
+			logger.error(exception.getMessage());
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package cronExpression.batch;
+
+import cronExpression.cache.CronDescriptionCache;
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.function.ObjLongConsumer;
+
+/*
+    Describes newline delimited expressions read from a stream, one line at a time so that memory use does not depend on
+    input size. Blank lines and lines starting with '#' are skipped as in crontab files.
+    A line failing to parse is reported to the error handler and the run carries on with the next line.
+ */
+public class BatchDescriber {
+    private static final char COMMENT = '#';
+
+    private final CronDescriptionCache cronDescriptionCache;
+
+    /*
+        Input: CronDescriptionCache shared by all lines so that repeated schedules are parsed once
+     */
+    public BatchDescriber(CronDescriptionCache cronDescriptionCache) {
+        this.cronDescriptionCache = cronDescriptionCache;
+    }
+
+    /*
+        Writes the description of every expression in reader to writer, descriptions are separated by an empty line.
+        Input: 1) reader: source of expressions, one per line
+               2) writer: destination of descriptions, flushed once all lines are processed
+               3) errorHandler: receives error message and line number (starting at 1) of every failed line
+        Returns number of failed lines
+     */
+    public long describeAll(BufferedReader reader, Writer writer, ObjLongConsumer<String> errorHandler) throws IOException {
+        long lineNumber = 0;
+        long failures = 0;
+        String line;
+        while((line = reader.readLine()) != null) {
+            lineNumber++;
+            if(isSkipped(line)) {
+                continue;
+            }
+            try {
+                writer.write(this.cronDescriptionCache.getDescription(line));
+                writer.write(System.lineSeparator());
+            } catch (EmptyExpressionException | IncorrectArgumentsException | InvalidInputException exception) {
+                failures++;
+                errorHandler.accept(exception.getMessage(), lineNumber);
+            }
+        }
+        writer.flush();
+        return failures;
+    }
+
+    private static boolean isSkipped(String line) {
+        for(int i = 0; i < line.length(); i++) {
+            char character = line.charAt(i);
+            if(character > ' ') {
+                return character == COMMENT;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,136 @@
+package cronExpression.batch;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronExpression;
+import cronExpression.parser.CronExpressionDescription;
+import cronExpression.parser.ValidationResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+/*
+    Describes large numbers of expressions in parallel and returns results in input order.
+    Every expression is parsed with its own CronExpression and CronExpressionDescription, nothing mutable is shared
+    between workers, so throughput scales with the number of cores.
+    On a ForkJoinPool the input is split recursively, on any other Executor it is cut into fixed size chunks.
+ */
+public class BulkDescriber {
+    // Expressions handled by a single task, large enough to hide task overhead and small enough to balance load
+    private static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private final Executor executor;
+    private final int chunkSize;
+
+    /*
+        Uses the common ForkJoinPool
+     */
+    public BulkDescriber() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public BulkDescriber(Executor executor) {
+        this(executor, DEFAULT_CHUNK_SIZE);
+    }
+
+    public BulkDescriber(Executor executor, int chunkSize) {
+        if(chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size has to be positive");
+        }
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    public List<DescriptionResult> describeAll(Stream<String> expressions) {
+        return describeAll(expressions.toArray(String[]::new));
+    }
+
+    public List<DescriptionResult> describeAll(Iterable<String> expressions) {
+        List<String> expressionList = new ArrayList<>();
+        expressions.forEach(expressionList::add);
+        return describeAll(expressionList.toArray(new String[0]));
+    }
+
+    /*
+        Returns one DescriptionResult per expression at the same index as in expressions
+     */
+    public List<DescriptionResult> describeAll(String[] expressions) {
+        DescriptionResult[] results = new DescriptionResult[expressions.length];
+        if(this.executor instanceof ForkJoinPool) {
+            ((ForkJoinPool) this.executor).invoke(new DescribeTask(expressions, results, 0, expressions.length,
+                    this.chunkSize));
+        } else {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for(int start = 0; start < expressions.length; start += this.chunkSize) {
+                int from = start;
+                int to = Math.min(expressions.length, start + this.chunkSize);
+                futures.add(CompletableFuture.runAsync(() -> describeRange(expressions, results, from, to),
+                        this.executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        }
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    public static DescriptionResult describe(String expression) {
+        try {
+            CronExpressionDescription cronExpressionDescription =
+                    new CronExpressionDescription(new CronExpression(expression));
+            // Invalid fields are reported without creating an exception, after validation getDescription cannot fail
+            ValidationResult validationResult = cronExpressionDescription.validate();
+            if(!validationResult.isValid()) {
+                return DescriptionResult.failure(expression, validationResult.getMessage());
+            }
+            return DescriptionResult.success(expression, cronExpressionDescription.getDescription());
+        } catch (EmptyExpressionException | IncorrectArgumentsException | InvalidInputException exception) {
+            return DescriptionResult.failure(expression, exception.getMessage());
+        }
+    }
+
+    private static void describeRange(String[] expressions, DescriptionResult[] results, int from, int to) {
+        for(int i = from; i < to; i++) {
+            results[i] = describe(expressions[i]);
+        }
+    }
+
+    /*
+        Splits [from, to) in halves until it is no larger than chunkSize, every index of results is written by exactly
+        one task
+     */
+    private static final class DescribeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] expressions;
+        private final DescriptionResult[] results;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        private DescribeTask(String[] expressions, DescriptionResult[] results, int from, int to, int chunkSize) {
+            this.expressions = expressions;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if(this.to - this.from <= this.chunkSize) {
+                describeRange(this.expressions, this.results, this.from, this.to);
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new DescribeTask(this.expressions, this.results, this.from, middle, this.chunkSize),
+                    new DescribeTask(this.expressions, this.results, middle, this.to, this.chunkSize));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package cronExpression.batch;
+
+/*
+    Outcome of describing a single expression, holds either its description or the message of the exception it failed
+    with
+ */
+public final class DescriptionResult {
+    private final String expression;
+    private final String description;
+    private final String errorMessage;
+
+    private DescriptionResult(String expression, String description, String errorMessage) {
+        this.expression = expression;
+        this.description = description;
+        this.errorMessage = errorMessage;
+    }
+
+    public static DescriptionResult success(String expression, String description) {
+        return new DescriptionResult(expression, description, null);
+    }
+
+    public static DescriptionResult failure(String expression, String errorMessage) {
+        return new DescriptionResult(expression, null, errorMessage);
+    }
+
+    public boolean isValid() {
+        return this.errorMessage == null;
+    }
+
+    public String getExpression() {
+        return this.expression;
+    }
+
+    /*
+        Description of the expression or null if it is not valid
+     */
+    public String getDescription() {
+        return this.description;
+    }
+
+    /*
+        Message of EmptyExpressionException, IncorrectArgumentsException or InvalidInputException, null if valid
+     */
+    public String getErrorMessage() {
+        return this.errorMessage;
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? this.description : this.errorMessage;
+    }
+}
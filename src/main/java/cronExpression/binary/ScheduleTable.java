@@ -0,0 +1,172 @@
+package cronExpression.binary;
+
+import cronExpression.parser.CronSchedule;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.function.IntConsumer;
+
+/*
+    Read only view of compiled schedules and their commands in the binary format written by ScheduleTableWriter.
+    Nothing is decoded up front: fields are read from the buffer on access, so a table mapped from a file is usable as
+    soon as it is opened and schedules can be matched without creating any object. Reads use absolute positions only,
+    hence a table can be shared between threads.
+
+    Format, big endian:
+        header   magic "CRON" (int), version (short), reserved (short), count (int), reserved (int)
+        records  count fixed size records of RECORD_BYTES:
+                 minutes (long), hours (int), days of month (int), months (short), days of week (byte),
+                 flags (byte, bit 0: day of month is '*', bit 1: day of week is '*'),
+                 command offset from the start of the table (int), command length in bytes (int)
+        commands UTF-8 bytes of all commands
+ */
+public final class ScheduleTable {
+    public static final int MAGIC = 0x43524F4E;
+    public static final short VERSION = 1;
+
+    static final int HEADER_BYTES = 16;
+    static final int COUNT_OFFSET = 8;
+    static final int RECORD_BYTES = 28;
+
+    static final int MINUTES_OFFSET = 0;
+    static final int HOURS_OFFSET = 8;
+    static final int DAYS_OF_MONTH_OFFSET = 12;
+    static final int MONTHS_OFFSET = 16;
+    static final int DAYS_OF_WEEK_OFFSET = 18;
+    static final int FLAGS_OFFSET = 19;
+    static final int COMMAND_OFFSET = 20;
+    static final int COMMAND_LENGTH_OFFSET = 24;
+
+    static final int DAY_OF_MONTH_ASTERISK = 1;
+    static final int DAY_OF_WEEK_ASTERISK = 2;
+
+    private final ByteBuffer buffer;
+    private final int count;
+
+    private ScheduleTable(ByteBuffer buffer, int count) {
+        this.buffer = buffer;
+        this.count = count;
+    }
+
+    /*
+        View of the table starting at the position of buffer, the buffer itself is not modified.
+        Throws IllegalArgumentException if the header is not valid or the records do not fit into buffer
+     */
+    public static ScheduleTable wrap(ByteBuffer buffer) {
+        ByteBuffer table = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+        if(table.remaining() < HEADER_BYTES || table.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a schedule table");
+        }
+        short version = table.getShort(4);
+        if(version != VERSION) {
+            throw new IllegalArgumentException("Unsupported schedule table version " + version);
+        }
+        int count = table.getInt(COUNT_OFFSET);
+        if(count < 0 || (long) count * RECORD_BYTES > table.remaining() - HEADER_BYTES) {
+            throw new IllegalArgumentException("Schedule table of " + count + " records is truncated");
+        }
+        return new ScheduleTable(table, count);
+    }
+
+    /*
+        Maps the whole file read only, the mapping stays valid after channel is closed
+     */
+    public static ScheduleTable map(FileChannel channel) throws IOException {
+        return wrap(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+
+    public int size() {
+        return this.count;
+    }
+
+    public long getMinutes(int index) {
+        return this.buffer.getLong(record(index) + MINUTES_OFFSET);
+    }
+
+    public int getHours(int index) {
+        return this.buffer.getInt(record(index) + HOURS_OFFSET);
+    }
+
+    public int getDaysOfMonth(int index) {
+        return this.buffer.getInt(record(index) + DAYS_OF_MONTH_OFFSET);
+    }
+
+    public int getMonths(int index) {
+        return this.buffer.getShort(record(index) + MONTHS_OFFSET) & 0xFFFF;
+    }
+
+    public int getDaysOfWeek(int index) {
+        return this.buffer.get(record(index) + DAYS_OF_WEEK_OFFSET) & 0xFF;
+    }
+
+    public boolean isDayOfMonthAsterisk(int index) {
+        return (this.buffer.get(record(index) + FLAGS_OFFSET) & DAY_OF_MONTH_ASTERISK) != 0;
+    }
+
+    public boolean isDayOfWeekAsterisk(int index) {
+        return (this.buffer.get(record(index) + FLAGS_OFFSET) & DAY_OF_WEEK_ASTERISK) != 0;
+    }
+
+    /*
+        Same as CronSchedule.matches for the schedule at index, read straight from the buffer
+        Input: index, minute 0-59, hour 0-23, dayOfMonth 1-31, month 1-12, dayOfWeek 0-6 where 0 is Sunday
+     */
+    public boolean matches(int index, int minute, int hour, int dayOfMonth, int month, int dayOfWeek) {
+        int record = record(index);
+        if((this.buffer.getLong(record + MINUTES_OFFSET) & (1L << minute)) == 0
+                || (this.buffer.getInt(record + HOURS_OFFSET) & (1 << hour)) == 0
+                || (this.buffer.getShort(record + MONTHS_OFFSET) & (1 << month)) == 0) {
+            return false;
+        }
+        boolean dayOfMonthMatches = (this.buffer.getInt(record + DAYS_OF_MONTH_OFFSET) & (1 << dayOfMonth)) != 0;
+        boolean dayOfWeekMatches = (this.buffer.get(record + DAYS_OF_WEEK_OFFSET) & (1 << dayOfWeek)) != 0;
+        if((this.buffer.get(record + FLAGS_OFFSET) & (DAY_OF_MONTH_ASTERISK | DAY_OF_WEEK_ASTERISK)) != 0) {
+            return dayOfMonthMatches && dayOfWeekMatches;
+        }
+        return dayOfMonthMatches || dayOfWeekMatches;
+    }
+
+    /*
+        Calls consumer with the index of every schedule matching the given point of time, in ascending order
+     */
+    public void forEachMatch(int minute, int hour, int dayOfMonth, int month, int dayOfWeek, IntConsumer consumer) {
+        for(int index = 0; index < this.count; index++) {
+            if(matches(index, minute, hour, dayOfMonth, month, dayOfWeek)) {
+                consumer.accept(index);
+            }
+        }
+    }
+
+    /*
+        Schedule at index as an object, for ex: to compute fire times with FireTimeCalculator.
+        Throws IllegalArgumentException if the stored masks are not valid
+     */
+    public CronSchedule getSchedule(int index) {
+        return new CronSchedule(getMinutes(index), getHours(index), getDaysOfMonth(index), getMonths(index),
+                getDaysOfWeek(index), isDayOfMonthAsterisk(index), isDayOfWeekAsterisk(index));
+    }
+
+    public String getCommand(int index) {
+        int record = record(index);
+        int offset = this.buffer.getInt(record + COMMAND_OFFSET);
+        int length = this.buffer.getInt(record + COMMAND_LENGTH_OFFSET);
+        if(offset < 0 || length < 0 || offset > this.buffer.limit() - length) {
+            throw new IllegalArgumentException("Command of record " + index + " is out of bounds");
+        }
+        byte[] bytes = new byte[length];
+        ByteBuffer command = this.buffer.duplicate();
+        command.position(offset);
+        command.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int record(int index) {
+        if(index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Index " + index + " of schedule table of size " + this.count);
+        }
+        return HEADER_BYTES + index * RECORD_BYTES;
+    }
+}
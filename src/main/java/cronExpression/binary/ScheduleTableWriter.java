@@ -0,0 +1,81 @@
+package cronExpression.binary;
+
+import cronExpression.parser.CronSchedule;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static cronExpression.binary.ScheduleTable.*;
+
+/*
+    Collects compiled schedules with their commands and writes them in the format read by ScheduleTable, a record
+    takes RECORD_BYTES plus the UTF-8 bytes of its command
+ */
+public class ScheduleTableWriter {
+    private final List<CronSchedule> schedules = new ArrayList<>();
+    private final List<byte[]> commands = new ArrayList<>();
+    private long commandBytes;
+
+    /*
+        Input: command may be null for schedules without command, it is read back as an empty string
+     */
+    public ScheduleTableWriter add(CronSchedule cronSchedule, String command) {
+        byte[] bytes = command == null ? new byte[0] : command.getBytes(StandardCharsets.UTF_8);
+        this.schedules.add(cronSchedule);
+        this.commands.add(bytes);
+        this.commandBytes += bytes.length;
+        return this;
+    }
+
+    public int size() {
+        return this.schedules.size();
+    }
+
+    /*
+        Encoded table in a new heap buffer positioned at 0
+        Throws IllegalArgumentException if the table would be larger than a buffer can hold
+     */
+    public ByteBuffer toByteBuffer() {
+        long length = HEADER_BYTES + (long) this.schedules.size() * RECORD_BYTES + this.commandBytes;
+        if(length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Schedule table of " + length + " bytes is too large");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) length).order(ByteOrder.BIG_ENDIAN);
+        buffer.putInt(MAGIC).putShort(VERSION).putShort((short) 0).putInt(this.schedules.size()).putInt(0);
+        int commandOffset = HEADER_BYTES + this.schedules.size() * RECORD_BYTES;
+        for(int i = 0; i < this.schedules.size(); i++) {
+            CronSchedule cronSchedule = this.schedules.get(i);
+            int flags = (cronSchedule.isDayOfMonthAsterisk() ? DAY_OF_MONTH_ASTERISK : 0)
+                    | (cronSchedule.isDayOfWeekAsterisk() ? DAY_OF_WEEK_ASTERISK : 0);
+            buffer.putLong(cronSchedule.getMinutes())
+                    .putInt(cronSchedule.getHours())
+                    .putInt(cronSchedule.getDaysOfMonth())
+                    .putShort((short) cronSchedule.getMonths())
+                    .put((byte) cronSchedule.getDaysOfWeek())
+                    .put((byte) flags)
+                    .putInt(commandOffset)
+                    .putInt(this.commands.get(i).length);
+            commandOffset += this.commands.get(i).length;
+        }
+        for(byte[] command : this.commands) {
+            buffer.put(command);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /*
+        Writes the encoded table to channel, for ex: a FileChannel to be mapped later by ScheduleTable.map
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = toByteBuffer();
+        while(buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
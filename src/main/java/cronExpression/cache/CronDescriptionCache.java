@@ -0,0 +1,217 @@
+package cronExpression.cache;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.metrics.Counter;
+import cronExpression.metrics.Latency;
+import cronExpression.metrics.Metrics;
+import cronExpression.metrics.MetricsRegistry;
+import cronExpression.parser.CronExpression;
+import cronExpression.parser.CronExpressionDescription;
+import cronExpression.parser.CronSchedule;
+import cronExpression.parser.ValidationResult;
+import cronExpression.render.ColumnDescriptionRenderer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+    Opt-in, size bounded cache of compiled schedules and their rendered descriptions.
+    Entries are keyed on the five schedule fields so expressions differing only in command share the parsing and
+    formatting work. Invalid schedules are cached as well and fail again with the same message.
+    The cache is split into segments, each one an access ordered LinkedHashMap guarded by its own lock, and evicts the
+    least recently used entry of a segment once the segment is full.
+ */
+public class CronDescriptionCache {
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    private static final ColumnDescriptionRenderer COLUMN_RENDERER = new ColumnDescriptionRenderer();
+
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CronDescriptionCache(int maximumSize) {
+        this(maximumSize, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /*
+        Input: 1) maximumSize: upper bound of cached schedules across all segments
+               2) concurrencyLevel: expected number of threads using the cache at the same time, rounded down to a
+                  power of two and capped so that every segment holds at least one entry
+     */
+    public CronDescriptionCache(int maximumSize, int concurrencyLevel) {
+        if(maximumSize <= 0 || concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Cache size and concurrency level have to be positive");
+        }
+        int segmentCount = Integer.highestOneBit(Math.min(maximumSize, concurrencyLevel));
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        for(int i = 0; i < segmentCount; i++) {
+            // Spreading the remainder so that the sum of segment capacities is exactly maximumSize
+            int capacity = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+            this.segments[i] = new Segment(capacity, this.evictions);
+        }
+    }
+
+    /*
+        Description of the whole expression, the schedule part is taken from cache and the command line is appended
+     */
+    public String getDescription(String expression)
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        return getDescription(new CronExpressionDescription(new CronExpression(expression)));
+    }
+
+    public String getDescription(CronExpressionDescription cronExpressionDescription) throws InvalidInputException {
+        return getEntry(cronExpressionDescription).getScheduleDescription()
+                + cronExpressionDescription.getCommandDescription();
+    }
+
+    public CronSchedule getSchedule(CronExpressionDescription cronExpressionDescription) throws InvalidInputException {
+        return getEntry(cronExpressionDescription).getSchedule();
+    }
+
+    private CacheEntry getEntry(CronExpressionDescription cronExpressionDescription) {
+        String key = cronExpressionDescription.getScheduleKey();
+        Segment segment = segmentFor(key);
+
+        CacheEntry entry;
+        synchronized (segment) {
+            entry = segment.get(key);
+        }
+        MetricsRegistry metrics = Metrics.registry();
+        if(entry != null) {
+            this.hits.increment();
+            metrics.increment(Counter.CACHE_HITS);
+            return entry;
+        }
+
+        this.misses.increment();
+        metrics.increment(Counter.CACHE_MISSES);
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+        // Parsing is done outside of the lock, two threads missing on the same key at once do the work twice
+        ValidationResult validationResult = cronExpressionDescription.validate();
+        if(validationResult.isValid()) {
+            entry = new CacheEntry(validationResult.getSchedule(), describeSchedule(validationResult.getSchedule()),
+                    null);
+        } else {
+            entry = new CacheEntry(null, null, validationResult.getMessage());
+        }
+        if(metrics.isEnabled()) {
+            metrics.recordNanos(Latency.CACHE_LOAD, System.nanoTime() - start);
+        }
+        synchronized (segment) {
+            CacheEntry existing = segment.putIfAbsent(key, entry);
+            return existing != null ? existing : entry;
+        }
+    }
+
+    /*
+        Same text as CronExpressionDescription.getScheduleDescription for an already compiled schedule
+     */
+    private static String describeSchedule(CronSchedule cronSchedule) {
+        StringBuilder descriptionBuilder = new StringBuilder();
+        try {
+            COLUMN_RENDERER.renderSchedule(cronSchedule, descriptionBuilder);
+        } catch (IOException exception) {
+            // StringBuilder does not throw IOException
+            throw new UncheckedIOException(exception);
+        }
+        return descriptionBuilder.toString();
+    }
+
+    private Segment segmentFor(String key) {
+        int hash = key.hashCode();
+        // Spreading higher bits so that similar keys do not end up in the same segment
+        hash ^= hash >>> 16;
+        return this.segments[hash & this.segmentMask];
+    }
+
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for(Segment segment : this.segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public void clear() {
+        for(Segment segment : this.segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /*
+        Compiled schedule with its description or the message of the InvalidInputException it failed with
+     */
+    private static final class CacheEntry {
+        private final CronSchedule schedule;
+        private final String scheduleDescription;
+        private final String errorMessage;
+
+        private CacheEntry(CronSchedule schedule, String scheduleDescription, String errorMessage) {
+            this.schedule = schedule;
+            this.scheduleDescription = scheduleDescription;
+            this.errorMessage = errorMessage;
+        }
+
+        private CronSchedule getSchedule() throws InvalidInputException {
+            if(this.errorMessage != null) {
+                throw new InvalidInputException(this.errorMessage);
+            }
+            return this.schedule;
+        }
+
+        private String getScheduleDescription() throws InvalidInputException {
+            if(this.errorMessage != null) {
+                throw new InvalidInputException(this.errorMessage);
+            }
+            return this.scheduleDescription;
+        }
+    }
+
+    private static final class Segment extends LinkedHashMap<String, CacheEntry> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+        private final LongAdder evictions;
+
+        private Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            if(size() > this.capacity) {
+                this.evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package cronExpression.enums;
+
+/*
+    Nicknames accepted in place of the five schedule fields, for ex: "@daily /usr/bin/find"
+ */
+public enum CronMacro {
+    YEARLY ("@yearly", "0 0 1 1 *"),
+    ANNUALLY ("@annually", "0 0 1 1 *"),
+    MONTHLY ("@monthly", "0 0 1 * *"),
+    WEEKLY ("@weekly", "0 0 * * 0"),
+    DAILY ("@daily", "0 0 * * *"),
+    MIDNIGHT ("@midnight", "0 0 * * *"),
+    HOURLY ("@hourly", "0 * * * *");
+
+    private final String name;
+    private final String schedule;
+
+    CronMacro(String name, String schedule) {
+        this.name = name;
+        this.schedule = schedule;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    /*
+        The five schedule fields the macro stands for
+     */
+    public String getSchedule() {
+        return this.schedule;
+    }
+
+    /*
+        Macro spelled by [from, to) of input ignoring case, or null if there is none.
+        Candidates are picked by the letter following '@' so that at most two names are compared.
+     */
+    public static CronMacro of(CharSequence input, int from, int to) {
+        if(to - from < 2 || input.charAt(from) != '@') {
+            return null;
+        }
+        switch (Character.toLowerCase(input.charAt(from + 1))) {
+            case 'y':
+                return matching(YEARLY, input, from, to);
+            case 'a':
+                return matching(ANNUALLY, input, from, to);
+            case 'm':
+                CronMacro monthly = matching(MONTHLY, input, from, to);
+                return monthly != null ? monthly : matching(MIDNIGHT, input, from, to);
+            case 'w':
+                return matching(WEEKLY, input, from, to);
+            case 'd':
+                return matching(DAILY, input, from, to);
+            case 'h':
+                return matching(HOURLY, input, from, to);
+            default:
+                return null;
+        }
+    }
+
+    private static CronMacro matching(CronMacro cronMacro, CharSequence input, int from, int to) {
+        String name = cronMacro.name;
+        if(to - from != name.length()) {
+            return null;
+        }
+        for(int i = 0; i < name.length(); i++) {
+            if(Character.toLowerCase(input.charAt(from + i)) != name.charAt(i)) {
+                return null;
+            }
+        }
+        return cronMacro;
+    }
+}
@@ -1,20 +1,53 @@
 package cronExpression.enums;
 
 public enum OutputFieldName {
-    MINUTE ("minute", 0, 59),
-    HOUR ("hour", 0, 23),
-    DAY_OF_MONTH ("day of month", 1, 31),
-    MONTH ("month", 1, 12),
-    DAY_OF_WEEK ("day of week", 0, 6);
+    MINUTE ("minute", 0, 59, 59),
+    HOUR ("hour", 0, 23, 23),
+    DAY_OF_MONTH ("day of month", 1, 31, 31),
+    MONTH ("month", 1, 12, 12,
+            "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"),
+    // 7 is accepted for Sunday as well
+    DAY_OF_WEEK ("day of week", 0, 6, 7, "SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"),
+    // Fields of the Quartz syntax only, day of week there counts from 1 for Sunday
+    SECOND ("second", 0, 59, 59),
+    YEAR ("year", 1970, 2099, 2099),
+    QUARTZ_DAY_OF_WEEK ("day of week", 1, 7, 7, "SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT");
+
+    // The fields of the five field syntax in the order of their occurrence in the expression
+    private static final OutputFieldName[] SCHEDULE_FIELDS = {MINUTE, HOUR, DAY_OF_MONTH, MONTH, DAY_OF_WEEK};
+
+    // Aliases are kept in a perfect hash table of this many slots, keyed by their three letters packed in 15 bits
+    private static final int ALIAS_SLOT_BITS = 5;
 
     private final String name;
     private final int begin;
     private final int end;
+    private final int acceptedEnd;
 
-    OutputFieldName(String name, int begin, int end) {
+    // aliasKeys[slot] holds the packed alias stored in slot (0 if empty) and aliasValues[slot] its value
+    private final int[] aliasKeys = new int[1 << ALIAS_SLOT_BITS];
+    private final int[] aliasValues = new int[1 << ALIAS_SLOT_BITS];
+    private final int aliasMultiplier;
+
+    /*
+        Input: 1) name printed in descriptions
+               2) begin and end: range of values of the field
+               3) acceptedEnd: largest value accepted in expressions, values above end wrap around to begin
+               4) aliases: three letter names of begin, begin + 1 and so on
+     */
+    OutputFieldName(String name, int begin, int end, int acceptedEnd, String... aliases) {
         this.name = name;
         this.begin = begin;
         this.end = end;
+        this.acceptedEnd = acceptedEnd;
+        this.aliasMultiplier = aliases.length == 0 ? 0 : placeAliases(aliases);
+    }
+
+    /*
+        Minute, hour, day of month, month and day of week, i.e. the fields of CronSchedule, as a new array
+     */
+    public static OutputFieldName[] scheduleFields() {
+        return SCHEDULE_FIELDS.clone();
     }
 
     public String getName() {
@@ -28,4 +61,74 @@ public enum OutputFieldName {
     public int getEnd() {
         return this.end;
     }
+
+    /*
+        Largest value accepted in expressions, larger than end only for day of week where 7 is Sunday
+     */
+    public int getAcceptedEnd() {
+        return this.acceptedEnd;
+    }
+
+    /*
+        Value of the alias spelled by [from, to) of input ignoring case, for ex: 3 for "MAR" in month, or -1 if it is
+        not an alias of this field. One multiplication and one comparison, no String is created.
+     */
+    public int aliasValue(CharSequence input, int from, int to) {
+        if(this.aliasMultiplier == 0 || to - from != 3) {
+            return -1;
+        }
+        int key = aliasKey(input, from);
+        if(key < 0) {
+            return -1;
+        }
+        int slot = aliasSlot(key, this.aliasMultiplier);
+        return this.aliasKeys[slot] == key ? this.aliasValues[slot] : -1;
+    }
+
+    /*
+        Finds a multiplier spreading all aliases over distinct slots and fills the table, returns the multiplier
+     */
+    private int placeAliases(String[] aliases) {
+        int[] keys = new int[aliases.length];
+        for(int i = 0; i < aliases.length; i++) {
+            keys[i] = aliasKey(aliases[i], 0);
+        }
+        for(int multiplier = 1; ; multiplier += 2) {
+            int occupied = 0;
+            boolean distinct = true;
+            for(int i = 0; i < keys.length && distinct; i++) {
+                int slotBit = 1 << aliasSlot(keys[i], multiplier);
+                distinct = (occupied & slotBit) == 0;
+                occupied |= slotBit;
+            }
+            if(distinct) {
+                for(int i = 0; i < keys.length; i++) {
+                    int slot = aliasSlot(keys[i], multiplier);
+                    this.aliasKeys[slot] = keys[i];
+                    this.aliasValues[slot] = this.begin + i;
+                }
+                return multiplier;
+            }
+        }
+    }
+
+    /*
+        Three letters packed 5 bits each, -1 if any of them is not a letter
+     */
+    private static int aliasKey(CharSequence input, int from) {
+        int key = 0;
+        for(int i = from; i < from + 3; i++) {
+            // Setting 0x20 maps upper case letters to lower case and everything else out of 'a' to 'z'
+            int letter = (input.charAt(i) | 0x20) - 'a';
+            if(letter < 0 || letter >= 26) {
+                return -1;
+            }
+            key = key << 5 | (letter + 1);
+        }
+        return key;
+    }
+
+    private static int aliasSlot(int key, int multiplier) {
+        return (key * multiplier) >>> (Integer.SIZE - ALIAS_SLOT_BITS);
+    }
 }
@@ -0,0 +1,24 @@
+package cronExpression.enums;
+
+import cronExpression.errorMessages.ErrorMessages;
+
+/*
+    Reasons an expression is not valid, each with the message template of the exception thrown for it
+ */
+public enum ValidationError {
+    EMPTY_EXPRESSION (ErrorMessages.EMPTY_EXPRESSION),
+    INCORRECT_ARGUMENTS (ErrorMessages.INCORRECT_ARGUMENTS),
+    INVALID_RANGE (ErrorMessages.INVALID_RANGE),
+    INVALID_RANGE_START_END (ErrorMessages.INVALID_RANGE_START_END),
+    INVALID_DAY_FIELDS (ErrorMessages.INVALID_DAY_FIELDS);
+
+    private final String messageTemplate;
+
+    ValidationError(String messageTemplate) {
+        this.messageTemplate = messageTemplate;
+    }
+
+    public String getMessageTemplate() {
+        return this.messageTemplate;
+    }
+}
@@ -9,5 +9,11 @@ public class ErrorMessages {
 
     public static final String INCORRECT_ARGUMENTS = "Number of fields present are less than 6. Please check README.md for supported inputs.";
 
+    public static final String INCORRECT_QUARTZ_ARGUMENTS = "Number of fields present in Quartz expression is not 6 or 7. Please check README.md for supported inputs.";
+
+    public static final String INVALID_DAY_FIELDS = "Exactly one of day of month and day of week has to be ? in Quartz expression. Please refer to README.md for supported inputs.";
+
+    public static final String INVALID_PORT = "No valid port passed to --server. Port has to be a number from 1 to 65535. Please check README.md for supported inputs.";
+
     private ErrorMessages() {}
 }
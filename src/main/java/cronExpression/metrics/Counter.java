@@ -0,0 +1,19 @@
+package cronExpression.metrics;
+
+/*
+    Events counted by a MetricsRegistry
+ */
+public enum Counter {
+    EXPRESSIONS_CREATED,
+    // List elements by branch of the field parser, a list counts once as LIST_FIELDS and once per element
+    ASTERISK_ELEMENTS,
+    STEP_ELEMENTS,
+    RANGE_ELEMENTS,
+    VALUE_ELEMENTS,
+    LIST_FIELDS,
+    VALIDATION_FAILURES,
+    CACHE_HITS,
+    CACHE_MISSES,
+    FIRE_TIME_EVALUATIONS,
+    INDEX_LOOKUPS
+}
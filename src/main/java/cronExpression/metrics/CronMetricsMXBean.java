@@ -0,0 +1,18 @@
+package cronExpression.metrics;
+
+import java.util.Map;
+
+/*
+    JMX view of a LongAdderMetricsRegistry, maps are keyed on the names of Counter, OutputFieldName and Latency
+ */
+public interface CronMetricsMXBean {
+    Map<String, Long> getCounters();
+
+    Map<String, Long> getValidationFailures();
+
+    Map<String, Long> getLatencyCounts();
+
+    Map<String, Long> getMeanLatencyNanos();
+
+    void reset();
+}
@@ -0,0 +1,11 @@
+package cronExpression.metrics;
+
+/*
+    Operations timed by a MetricsRegistry, only coarse ones so that reading the clock does not dominate their cost
+ */
+public enum Latency {
+    // Parsing the schedule fields of an expression into a CronSchedule
+    COMPILE,
+    // Compiling and rendering a schedule missing from CronDescriptionCache
+    CACHE_LOAD
+}
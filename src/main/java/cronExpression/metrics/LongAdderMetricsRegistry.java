@@ -0,0 +1,160 @@
+package cronExpression.metrics;
+
+import cronExpression.enums.OutputFieldName;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+    Registry backed by LongAdder, whose cells are striped across threads, so concurrent increments rarely contend and
+    an event costs a few nanoseconds. Latencies go into histograms with one bucket per power of two of nanoseconds.
+    Reads sum the cells and are meant for monitoring, not for hot paths.
+ */
+public class LongAdderMetricsRegistry implements MetricsRegistry, CronMetricsMXBean {
+    public static final String OBJECT_NAME = "cronExpression:type=Metrics";
+
+    // Bucket i counts latencies in [2^(i-1), 2^i) nanoseconds, bucket 0 counts zero
+    public static final int LATENCY_BUCKETS = 64;
+
+    private final LongAdder[] counters = newAdders(Counter.values().length);
+    private final LongAdder[] fieldFailures = newAdders(OutputFieldName.values().length);
+    private final LongAdder[][] latencyBuckets = new LongAdder[Latency.values().length][];
+    private final LongAdder[] latencyTotals = newAdders(Latency.values().length);
+
+    public LongAdderMetricsRegistry() {
+        for(int i = 0; i < this.latencyBuckets.length; i++) {
+            this.latencyBuckets[i] = newAdders(LATENCY_BUCKETS);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void increment(Counter counter) {
+        this.counters[counter.ordinal()].increment();
+    }
+
+    @Override
+    public void fieldFailure(OutputFieldName outputFieldName) {
+        this.fieldFailures[outputFieldName.ordinal()].increment();
+    }
+
+    @Override
+    public void recordNanos(Latency latency, long nanos) {
+        long bounded = Math.max(nanos, 0);
+        this.latencyBuckets[latency.ordinal()][Long.SIZE - Long.numberOfLeadingZeros(bounded)].increment();
+        this.latencyTotals[latency.ordinal()].add(bounded);
+    }
+
+    public long getCount(Counter counter) {
+        return this.counters[counter.ordinal()].sum();
+    }
+
+    public long getFailureCount(OutputFieldName outputFieldName) {
+        return this.fieldFailures[outputFieldName.ordinal()].sum();
+    }
+
+    /*
+        Counts per bucket, bucket i holding latencies below 2^i nanoseconds and at least 2^(i-1)
+     */
+    public long[] getLatencyHistogram(Latency latency) {
+        long[] histogram = new long[LATENCY_BUCKETS];
+        LongAdder[] buckets = this.latencyBuckets[latency.ordinal()];
+        for(int i = 0; i < LATENCY_BUCKETS; i++) {
+            histogram[i] = buckets[i].sum();
+        }
+        return histogram;
+    }
+
+    public long getLatencyCount(Latency latency) {
+        long count = 0;
+        for(LongAdder bucket : this.latencyBuckets[latency.ordinal()]) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public long getTotalNanos(Latency latency) {
+        return this.latencyTotals[latency.ordinal()].sum();
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for(Counter counter : Counter.values()) {
+            counts.put(counter.name(), getCount(counter));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getValidationFailures() {
+        Map<String, Long> failures = new LinkedHashMap<>();
+        for(OutputFieldName outputFieldName : OutputFieldName.values()) {
+            failures.put(outputFieldName.name(), getFailureCount(outputFieldName));
+        }
+        return failures;
+    }
+
+    @Override
+    public Map<String, Long> getLatencyCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for(Latency latency : Latency.values()) {
+            counts.put(latency.name(), getLatencyCount(latency));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getMeanLatencyNanos() {
+        Map<String, Long> means = new LinkedHashMap<>();
+        for(Latency latency : Latency.values()) {
+            long count = getLatencyCount(latency);
+            means.put(latency.name(), count == 0 ? 0 : getTotalNanos(latency) / count);
+        }
+        return means;
+    }
+
+    /*
+        Zeroes all counts, events recorded concurrently with reset may or may not survive it
+     */
+    @Override
+    public void reset() {
+        resetAll(this.counters);
+        resetAll(this.fieldFailures);
+        resetAll(this.latencyTotals);
+        for(LongAdder[] buckets : this.latencyBuckets) {
+            resetAll(buckets);
+        }
+    }
+
+    /*
+        Registers this registry with the platform MBean server under OBJECT_NAME
+     */
+    public ObjectName registerMBean() throws JMException {
+        ObjectName objectName = new ObjectName(OBJECT_NAME);
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    private static LongAdder[] newAdders(int length) {
+        LongAdder[] adders = new LongAdder[length];
+        for(int i = 0; i < length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static void resetAll(LongAdder[] adders) {
+        for(LongAdder adder : adders) {
+            adder.reset();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package cronExpression.metrics;
+
+/*
+    Process wide holder of the MetricsRegistry used by the library, instrumentation is off until a registry is
+    installed, for ex: Metrics.install(new LongAdderMetricsRegistry())
+ */
+public final class Metrics {
+    private static volatile MetricsRegistry registry = NoopMetricsRegistry.INSTANCE;
+
+    private Metrics() {}
+
+    public static MetricsRegistry registry() {
+        return registry;
+    }
+
+    public static void install(MetricsRegistry metricsRegistry) {
+        if(metricsRegistry == null) {
+            throw new IllegalArgumentException("Metrics registry can not be null, use Metrics.disable instead");
+        }
+        registry = metricsRegistry;
+    }
+
+    /*
+        Goes back to the no-op registry, counts of the previously installed registry are kept in it
+     */
+    public static void disable() {
+        registry = NoopMetricsRegistry.INSTANCE;
+    }
+}
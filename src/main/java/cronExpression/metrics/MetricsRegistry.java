@@ -0,0 +1,24 @@
+package cronExpression.metrics;
+
+import cronExpression.enums.OutputFieldName;
+
+/*
+    Receives instrumentation events of parsing and evaluation. Implementations are called on hot paths from many
+    threads at once, hence they have to be thread safe and must neither block nor allocate.
+ */
+public interface MetricsRegistry {
+
+    /*
+        False for a registry ignoring all events, callers skip reading the clock for latencies then
+     */
+    boolean isEnabled();
+
+    void increment(Counter counter);
+
+    /*
+        A field of an expression failed validation, counted in addition to Counter.VALIDATION_FAILURES
+     */
+    void fieldFailure(OutputFieldName outputFieldName);
+
+    void recordNanos(Latency latency, long nanos);
+}
@@ -0,0 +1,26 @@
+package cronExpression.metrics;
+
+import cronExpression.enums.OutputFieldName;
+
+/*
+    Default registry, every call is an empty method the JIT inlines away
+ */
+final class NoopMetricsRegistry implements MetricsRegistry {
+    static final NoopMetricsRegistry INSTANCE = new NoopMetricsRegistry();
+
+    private NoopMetricsRegistry() {}
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void increment(Counter counter) {}
+
+    @Override
+    public void fieldFailure(OutputFieldName outputFieldName) {}
+
+    @Override
+    public void recordNanos(Latency latency, long nanos) {}
+}
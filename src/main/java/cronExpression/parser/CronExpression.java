@@ -1,6 +1,8 @@
 package cronExpression.parser;
 
 import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.metrics.Counter;
+import cronExpression.metrics.Metrics;
 
 import static cronExpression.errorMessages.ErrorMessages.EMPTY_EXPRESSION;
 
@@ -14,6 +16,7 @@ public class CronExpression {
 		}
 		// Trim removes any extra white spaces
 		this.expression = expression.trim();
+		Metrics.registry().increment(Counter.EXPRESSIONS_CREATED);
     }
 
 	public String getExpression() {
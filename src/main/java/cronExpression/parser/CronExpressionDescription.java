@@ -1,12 +1,18 @@
 package cronExpression.parser;
 
+import cronExpression.enums.CronMacro;
 import cronExpression.enums.OutputFieldName;
+import cronExpression.enums.ValidationError;
 import cronExpression.exceptions.IncorrectArgumentsException;
 import cronExpression.exceptions.InvalidInputException;
+import cronExpression.metrics.Latency;
+import cronExpression.metrics.Metrics;
+import cronExpression.metrics.MetricsRegistry;
+import cronExpression.render.ColumnDescriptionRenderer;
+import cronExpression.render.DescriptionRenderer;
 
-import java.text.MessageFormat;
-import java.util.Arrays;
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 import static cronExpression.errorMessages.ErrorMessages.*;
 
@@ -14,253 +20,224 @@ import static cronExpression.errorMessages.ErrorMessages.*;
  Author: anubhavh
  */
 public class CronExpressionDescription {
-    private final String[] expressionParts;
+    private final String expression;
+
+    // Start (inclusive) and end (exclusive) offsets of every part of the expression in expression
+    private final int[] partBounds = new int[2 * EXPRESSION_PARTS];
+
+    // Number of parts found in expression, anything but EXPRESSION_PARTS is rejected
+    private final int parts;
+
+    // Compiled form of the schedule fields, created on first use since parsing may throw InvalidInputException
+    private volatile CronSchedule schedule;
 
     public static final String SPACE = " ";
 
+    // Number of parts in the expression, five schedule fields followed by command
+    private static final int EXPRESSION_PARTS = 6;
+
+    private static final int COMMAND_INDEX = 5;
+
+    // Number of parts in an expression starting with a macro, for ex: @daily followed by command
+    private static final int MACRO_PARTS = 2;
+
+    // Schedule fields in the order of their occurrence in the expression
+    private static final OutputFieldName[] SCHEDULE_FIELDS = {
+            OutputFieldName.MINUTE, OutputFieldName.HOUR, OutputFieldName.DAY_OF_MONTH, OutputFieldName.MONTH,
+            OutputFieldName.DAY_OF_WEEK
+    };
+
     // Used for formatting output so that first 14 columns are taken by fieldName
-    private static final String OUTPUT_FORMAT_STRING = "%-14s";
+    private static final ColumnDescriptionRenderer COLUMN_RENDERER = new ColumnDescriptionRenderer();
 
     /*
-        Splits the input cron expression by SPACE and throws exception if number of arguments passed is less than or more than 6
+        Scans the input cron expression for parts separated by runs of white space and throws exception if number of
+        arguments passed is less than or more than 6. Only offsets of the parts are kept, nothing is copied.
+        A macro followed by command, for ex: @daily /usr/bin/find, is expanded to the five fields it stands for.
         Input: CronExpression
      */
     public CronExpressionDescription(CronExpression cronExpression) throws IncorrectArgumentsException {
-        this.expressionParts = cronExpression.getExpression().split(SPACE);
-        if(this.expressionParts.length != 6) {
+        this(cronExpression.getExpression());
+        if(this.parts != EXPRESSION_PARTS) {
             throw new IncorrectArgumentsException(INCORRECT_ARGUMENTS);
         }
-        // Converting any occurrence of */1 to * since they are same in result
-        for(int i = 0; i < expressionParts.length; i++) {
-            if(expressionParts[i].contentEquals("*/1")) {
-                expressionParts[i] = "*";
+    }
+
+    private CronExpressionDescription(String input) {
+        int parts = CronTokenizer.tokenize(input, this.partBounds);
+        if(parts == MACRO_PARTS) {
+            CronMacro cronMacro = CronMacro.of(input, partStart(0), partEnd(0));
+            if(cronMacro != null) {
+                input = cronMacro.getSchedule() + SPACE + input.substring(partStart(1), partEnd(1));
+                parts = CronTokenizer.tokenize(input, this.partBounds);
             }
         }
+        this.expression = input;
+        this.parts = parts;
     }
 
     /*
-        Output format is defined as minute, hour, dayOfMonth, month, dayOfWeek and command and
-        corresponding index of array is 0, 1, 2, 3, 4, 5
-        No validation is done on command passed in input hence separating its function to getCommandDescription
+        Validates expression the same way as CronExpression, CronExpressionDescription and getSchedule together but
+        reports failures in the returned ValidationResult instead of throwing, columns are offsets in expression.
      */
-    public String getDescription() throws InvalidInputException {
-        List<OutputFieldName> outputFieldNameList = Arrays.asList(
-                OutputFieldName.MINUTE, OutputFieldName.HOUR, OutputFieldName.DAY_OF_MONTH, OutputFieldName.MONTH,
-                OutputFieldName.DAY_OF_WEEK
-        );
-
-        StringBuilder descriptionBuilder = new StringBuilder();
-
-        for(int i = 0; i < outputFieldNameList.size(); i++) {
-            descriptionBuilder.append(getExpressionPartDescription(expressionParts[i], outputFieldNameList.get(i)));
+    public static ValidationResult validate(String expression) {
+        int leading = 0;
+        int length = expression == null ? 0 : expression.length();
+        while(leading < length && CronTokenizer.isSeparator(expression.charAt(leading))) {
+            leading++;
         }
-        descriptionBuilder.append(getCommandDescription(expressionParts));
-
-        return descriptionBuilder.toString();
+        if(leading == length) {
+            return ValidationResult.failure(ValidationError.EMPTY_EXPRESSION, null, -1, 0, 0);
+        }
+        CronExpressionDescription cronExpressionDescription = new CronExpressionDescription(expression.trim());
+        if(cronExpressionDescription.parts != EXPRESSION_PARTS) {
+            return ValidationResult.failure(ValidationError.INCORRECT_ARGUMENTS, null, -1, 0, 0);
+        }
+        return cronExpressionDescription.validate(leading);
     }
 
     /*
-        Input: 1) String expressionPart: refers to part of input expression mapped to fieldName
-               2) OutputFieldName: specific part of cron expression in reference to input expression
-        Gets description of input expression part after checking if it contains standard special characters
-        (*, * /, -, ,)
-        Function calls each individual function for special characters
+        Same as getSchedule with failures reported in the returned ValidationResult instead of throwing
      */
-    private String getExpressionPartDescription(String expressionPart, OutputFieldName outputFieldName) throws InvalidInputException, NumberFormatException {
-        StringBuilder expressionPartExpanded = new StringBuilder();
+    public ValidationResult validate() {
+        return validate(0);
+    }
 
-        if(expressionPart.contains("*/")) {
-            // Ignoring ${number}/${number} as it is not standard
-            expressionPartExpanded.append(expressionForAsteriskSlash(expressionPart, outputFieldName));
-        } else if(expressionPart.contains("*")) {
-            expressionPartExpanded.append(expressionForAsterisk(expressionPart, outputFieldName));
-        } else if(expressionPart.contains(",")) {
-            expressionPartExpanded.append(expressionForComma(expressionPart, outputFieldName));
-        } else if(expressionPart.contains("-")) {
-            expressionPartExpanded.append(expressionForHyphen(expressionPart, outputFieldName));
-        } else {
-            try {
-                int begin = outputFieldName.getBegin();
-                int end = outputFieldName.getEnd();
-                int intExpressionPart = Integer.parseInt(expressionPart);
-                if(begin <= intExpressionPart && end >= intExpressionPart) {
-                    expressionPartExpanded.append(expressionPart);
-                } else {
-                    throw new InvalidInputException(
-                            MessageFormat.format(
-                                    INVALID_RANGE, outputFieldName.getName(),
-                                    begin, end
-                            )
-                    );
-                }
-            } catch (NumberFormatException ex) {
-                throw new InvalidInputException(
-                        MessageFormat.format(
-                                INVALID_RANGE, outputFieldName.getName(),
-                                outputFieldName.getBegin(), outputFieldName.getEnd()
-                        )
-                );
+    private ValidationResult validate(int columnOffset) {
+        CronSchedule cronSchedule = this.schedule;
+        if(cronSchedule == null) {
+            FieldFailure failure = new FieldFailure();
+            cronSchedule = compile(failure);
+            if(cronSchedule == null) {
+                return failure.toResult(columnOffset);
             }
+            this.schedule = cronSchedule;
         }
-
-        return buildDescription(outputFieldName.getName(), expressionPartExpanded.toString());
+        return ValidationResult.valid(cronSchedule);
     }
 
     /*
-        * / ${number} represent steps of ${number} within range of OutputFieldName
-        Ex: * / 2 denotes every 2nd day of the week when OutputFieldName is dayOfWeek
+        Output format is defined as minute, hour, dayOfMonth, month, dayOfWeek and command and
+        corresponding index of parts is 0, 1, 2, 3, 4, 5
+        Values of every field are rendered from the bitmasks of the compiled schedule
+        No validation is done on command passed in input hence separating its function to getCommandDescription
      */
-    private StringBuilder expressionForAsteriskSlash(String expressionPart, OutputFieldName outputFieldName) throws InvalidInputException {
-        int begin = outputFieldName.getBegin();
-        int end = outputFieldName.getEnd();
-        StringBuilder expressionPartExpanded = new StringBuilder();
-
-        String[] parts = expressionPart.split("\\*/");
+    public String getDescription() throws InvalidInputException {
+        return getScheduleDescription() + getCommandDescription();
+    }
 
-        // First part after split should be empty as expected format is of form */${number}
-        if(parts.length == 2 && parts[0].length() == 0 && parts[1].length() > 0) {
-            try {
-                int increment = Integer.parseInt(parts[1]);
-                for (int i = begin; i <= end; i = i + increment) {
-                    expressionPartExpanded.append(i).append(" ");
-                }
-            } catch (NumberFormatException exception) {
-                // Adding try catch block to catch any exceptions thrown from Integer.parseInt(parts[1])
-                // Possible exceptions can occur if alphabets are passed which are invalid as per range
-                throw new InvalidInputException(
-                        MessageFormat.format(
-                                INVALID_RANGE, outputFieldName.getName(),
-                                begin, end
-                        )
-                );
-            }
-        } else {
-            throw new InvalidInputException(
-                    MessageFormat.format(
-                            INVALID_RANGE, outputFieldName.getName(),
-                            begin, end
-                    )
-            );
+    /*
+        Description lines of the five schedule fields, i.e. everything from getDescription except the command line
+     */
+    public String getScheduleDescription() throws InvalidInputException {
+        CronSchedule cronSchedule = getSchedule();
+        StringBuilder descriptionBuilder = new StringBuilder();
+        try {
+            COLUMN_RENDERER.renderSchedule(cronSchedule, descriptionBuilder);
+        } catch (IOException exception) {
+            // StringBuilder does not throw IOException
+            throw new UncheckedIOException(exception);
         }
-        return expressionPartExpanded;
+        return descriptionBuilder.toString();
     }
 
     /*
-        Function for special character '*' where all values in outputFieldName range gets printed
+        Writes the description in the format of renderer to out, for ex: JSON or CSV instead of the column text
      */
-    private StringBuilder expressionForAsterisk(String expressionPart, OutputFieldName outputFieldName) throws InvalidInputException{
-        StringBuilder expressionPartExpanded = new StringBuilder();
-        int begin = outputFieldName.getBegin();
-        int end = outputFieldName.getEnd();
+    public void describeTo(Appendable out, DescriptionRenderer renderer) throws InvalidInputException, IOException {
+        renderer.render(getSchedule(), getCommand(), out);
+    }
 
-        if(expressionPart.length() == 1) {
-            for(int i = begin; i <= end; i++) {
-                expressionPartExpanded.append(i).append(" ");
+    /*
+        The five schedule fields separated by single SPACE, expressions differing only in command or in white space
+        between fields share this key
+     */
+    public String getScheduleKey() {
+        int start = partStart(0);
+        int end = partEnd(SCHEDULE_FIELDS.length - 1);
+        boolean singleSpaced = true;
+        for(int i = 1; i < SCHEDULE_FIELDS.length && singleSpaced; i++) {
+            singleSpaced = partStart(i) - partEnd(i - 1) == 1 && this.expression.charAt(partEnd(i - 1)) == ' ';
+        }
+        if(singleSpaced) {
+            return this.expression.substring(start, end);
+        }
+        StringBuilder keyBuilder = new StringBuilder(end - start);
+        for(int i = 0; i < SCHEDULE_FIELDS.length; i++) {
+            if(i > 0) {
+                keyBuilder.append(SPACE);
             }
-        } else {
-            throw new InvalidInputException(
-                    MessageFormat.format(
-                            INVALID_RANGE, outputFieldName.getName(),
-                            begin, end
-                    )
-            );
+            keyBuilder.append(this.expression, partStart(i), partEnd(i));
         }
-        return expressionPartExpanded;
+        return keyBuilder.toString();
     }
 
     /*
-        Function for special character ',' where input data in range of outputFieldName are printed else error is thrown
+        Compiles the schedule fields into a CronSchedule. Parsing happens only once per instance and the result is
+        immutable, hence it can be handed to other threads.
+        Throws InvalidInputException for the first field (in expression order) that is not valid
      */
-    private StringBuilder expressionForComma(String expressionPart, OutputFieldName outputFieldName) throws InvalidInputException {
-        StringBuilder expressionPartExpanded = new StringBuilder();
-        int begin = outputFieldName.getBegin();
-        int end = outputFieldName.getEnd();
-        String[] parts = expressionPart.split(",");
-        if(parts.length == 2) {
-            try {
-                int startPart = Integer.parseInt(parts[0]);
-                int endPart = Integer.parseInt(parts[1]);
-                if(begin <= startPart && begin <= endPart && end >= startPart && end >= endPart) {
-                    expressionPartExpanded.append(startPart).append(" ").append(endPart);
-                } else {
-                    throw new InvalidInputException(
-                            MessageFormat.format(
-                                    INVALID_RANGE_START_END, outputFieldName.getName(),
-                                    startPart, endPart, begin, end
-                            )
-                    );
-                }
-            } catch (NumberFormatException numberFormatException) {
-                throw new InvalidInputException(
-                        MessageFormat.format(
-                                INVALID_RANGE, outputFieldName.getName(),
-                                begin, end
-                        )
-                );
+    public CronSchedule getSchedule() throws InvalidInputException {
+        CronSchedule cronSchedule = this.schedule;
+        if(cronSchedule == null) {
+            FieldFailure failure = new FieldFailure();
+            cronSchedule = compile(failure);
+            if(cronSchedule == null) {
+                throw new InvalidInputException(failure.toResult(0).getMessage());
             }
-        } else {
-            throw new InvalidInputException(
-                    MessageFormat.format(
-                            INVALID_RANGE, outputFieldName.getName(),
-                            begin, end
-                    )
-            );
+            this.schedule = cronSchedule;
         }
-        return expressionPartExpanded;
+        return cronSchedule;
+    }
+
+    public String getCommand() {
+        return this.expression.substring(partStart(COMMAND_INDEX), partEnd(COMMAND_INDEX));
+    }
+
+    private int partStart(int index) {
+        return this.partBounds[2 * index];
+    }
+
+    private int partEnd(int index) {
+        return this.partBounds[2 * index + 1];
     }
 
     /*
-        Function for special character '-' where input range in range of outputFieldName are printed else error is thrown
+        Parses all schedule fields, returns null after recording the first field (in expression order) that is not
+        valid in failure
      */
-    private StringBuilder expressionForHyphen(String expressionPart, OutputFieldName outputFieldName) throws InvalidInputException {
-        StringBuilder expressionPartExpanded = new StringBuilder();
-        int begin = outputFieldName.getBegin();
-        int end = outputFieldName.getEnd();
+    private CronSchedule compile(FieldFailure failure) {
+        MetricsRegistry metrics = Metrics.registry();
+        if(!metrics.isEnabled()) {
+            return compileFields(failure);
+        }
+        long start = System.nanoTime();
+        CronSchedule cronSchedule = compileFields(failure);
+        metrics.recordNanos(Latency.COMPILE, System.nanoTime() - start);
+        return cronSchedule;
+    }
 
-        // Acceptable format: ${number}-${number} in range for field
-        String[] parts = expressionPart.split("-");
-        if(parts.length == 2) {
-            try {
-                int startPart = Integer.parseInt(parts[0]);
-                int endPart = Integer.parseInt(parts[1]);
-                if(startPart > endPart || startPart < begin || startPart > end
-                        || endPart < (begin + 1) || endPart > end) {
-                    throw new InvalidInputException(
-                            MessageFormat.format(
-                                    INVALID_RANGE_START_END, outputFieldName.getName(), startPart, endPart,
-                                    begin, end
-                            )
-                    );
-                }
-                for(int i = startPart; i <= endPart; i++) {
-                    expressionPartExpanded.append(i).append(" ");
-                }
-            } catch (NumberFormatException numberFormatException) {
-                throw new InvalidInputException(
-                        MessageFormat.format(
-                                INVALID_RANGE, outputFieldName.getName(),
-                                begin, end
-                        )
-                );
+    private CronSchedule compileFields(FieldFailure failure) {
+        long[] masks = new long[SCHEDULE_FIELDS.length];
+        for(int i = 0; i < SCHEDULE_FIELDS.length; i++) {
+            masks[i] = FieldParser.parse(this.expression, partStart(i), partEnd(i), SCHEDULE_FIELDS[i], failure);
+            if(masks[i] == FieldFailure.INVALID) {
+                return null;
             }
-        } else {
-            throw new InvalidInputException(
-                    MessageFormat.format(
-                            INVALID_RANGE, outputFieldName.getName(),
-                            begin, end
-                    )
-            );
         }
-        return expressionPartExpanded;
+        return new CronSchedule(masks[0], (int) masks[1], (int) masks[2], (int) masks[3], (int) masks[4],
+                this.expression.charAt(partStart(2)) == '*', this.expression.charAt(partStart(4)) == '*');
     }
 
-    private String getCommandDescription(String[] expressionParts) {
+    public String getCommandDescription() {
         // Command should be present in the last place in the provided input
-        final String COMMAND = "command";
-        return String.format(OUTPUT_FORMAT_STRING, COMMAND) + expressionParts[5] + System.lineSeparator();
-    }
-
-    private String buildDescription(String outputFieldName, String toAppend) {
-        return String.format(OUTPUT_FORMAT_STRING, outputFieldName) + toAppend.trim() + System.lineSeparator();
+        StringBuilder descriptionBuilder = new StringBuilder();
+        try {
+            COLUMN_RENDERER.renderCommand(getCommand(), descriptionBuilder);
+        } catch (IOException exception) {
+            // StringBuilder does not throw IOException
+            throw new UncheckedIOException(exception);
+        }
+        return descriptionBuilder.toString();
     }
-}
\ No newline at end of file
+}
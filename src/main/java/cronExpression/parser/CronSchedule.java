@@ -0,0 +1,170 @@
+package cronExpression.parser;
+
+import cronExpression.enums.OutputFieldName;
+
+/*
+    Compiled and immutable form of the five schedule fields of a cron expression.
+    Every field is kept as a bitmask where bit n is set when value n belongs to the field, so minute (0-59) needs a long
+    while hour, day of month, month and day of week fit into an int.
+    Instances hold no mutable state and can be shared between threads.
+ */
+public final class CronSchedule {
+    private final long minutes;
+    private final int hours;
+    private final int daysOfMonth;
+    private final int months;
+    private final int daysOfWeek;
+
+    // When both day fields are restricted cron fires if either of them matches, hence '*' in a day field is remembered
+    private final boolean dayOfMonthAsterisk;
+    private final boolean dayOfWeekAsterisk;
+
+    /*
+        Input: bitmask per field where bit n denotes value n and flags telling if day fields were given as '*'
+        Throws IllegalArgumentException if any mask is empty or has bits outside the range of its OutputFieldName
+     */
+    public CronSchedule(long minutes, int hours, int daysOfMonth, int months, int daysOfWeek,
+                        boolean dayOfMonthAsterisk, boolean dayOfWeekAsterisk) {
+        this.minutes = checkMask(OutputFieldName.MINUTE, minutes);
+        this.hours = (int) checkMask(OutputFieldName.HOUR, hours & 0xFFFFFFFFL);
+        this.daysOfMonth = (int) checkMask(OutputFieldName.DAY_OF_MONTH, daysOfMonth & 0xFFFFFFFFL);
+        this.months = (int) checkMask(OutputFieldName.MONTH, months & 0xFFFFFFFFL);
+        this.daysOfWeek = (int) checkMask(OutputFieldName.DAY_OF_WEEK, daysOfWeek & 0xFFFFFFFFL);
+        this.dayOfMonthAsterisk = dayOfMonthAsterisk;
+        this.dayOfWeekAsterisk = dayOfWeekAsterisk;
+    }
+
+    /*
+        Bitmask with every bit from begin to end (both inclusive) set
+     */
+    public static long rangeMask(int begin, int end) {
+        return (-1L << begin) & (-1L >>> (63 - end));
+    }
+
+    /*
+        Bitmask covering the complete range of outputFieldName, i.e. the mask of '*'
+     */
+    public static long fullMask(OutputFieldName outputFieldName) {
+        return rangeMask(outputFieldName.getBegin(), outputFieldName.getEnd());
+    }
+
+    private static long checkMask(OutputFieldName outputFieldName, long mask) {
+        if(mask == 0 || (mask & ~fullMask(outputFieldName)) != 0) {
+            throw new IllegalArgumentException("Invalid bitmask " + Long.toBinaryString(mask) + " for "
+                    + outputFieldName.getName());
+        }
+        return mask;
+    }
+
+    public long getMinutes() {
+        return this.minutes;
+    }
+
+    public int getHours() {
+        return this.hours;
+    }
+
+    public int getDaysOfMonth() {
+        return this.daysOfMonth;
+    }
+
+    public int getMonths() {
+        return this.months;
+    }
+
+    public int getDaysOfWeek() {
+        return this.daysOfWeek;
+    }
+
+    public boolean isDayOfMonthAsterisk() {
+        return this.dayOfMonthAsterisk;
+    }
+
+    public boolean isDayOfWeekAsterisk() {
+        return this.dayOfWeekAsterisk;
+    }
+
+    /*
+        Bitmask of the given field widened to long so that all fields can be handled alike
+     */
+    public long getMask(OutputFieldName outputFieldName) {
+        switch (outputFieldName) {
+            case MINUTE:
+                return this.minutes;
+            case HOUR:
+                return this.hours & 0xFFFFFFFFL;
+            case DAY_OF_MONTH:
+                return this.daysOfMonth & 0xFFFFFFFFL;
+            case MONTH:
+                return this.months & 0xFFFFFFFFL;
+            case DAY_OF_WEEK:
+                return this.daysOfWeek & 0xFFFFFFFFL;
+            default:
+                throw new IllegalArgumentException("Unsupported field " + outputFieldName);
+        }
+    }
+
+    public boolean contains(OutputFieldName outputFieldName, int value) {
+        return value >= 0 && value < 64 && (getMask(outputFieldName) & (1L << value)) != 0;
+    }
+
+    /*
+        Day matching as done by cron: if either day field is '*' both have to match, otherwise any of them is enough
+        Input: dayOfMonth 1-31 and dayOfWeek 0-6 where 0 is Sunday
+     */
+    public boolean matchesDay(int dayOfMonth, int dayOfWeek) {
+        boolean dayOfMonthMatches = (this.daysOfMonth & (1 << dayOfMonth)) != 0;
+        boolean dayOfWeekMatches = (this.daysOfWeek & (1 << dayOfWeek)) != 0;
+        if(this.dayOfMonthAsterisk || this.dayOfWeekAsterisk) {
+            return dayOfMonthMatches && dayOfWeekMatches;
+        }
+        return dayOfMonthMatches || dayOfWeekMatches;
+    }
+
+    /*
+        Checks if the schedule fires at the given point of time using bit tests only
+        Input: minute 0-59, hour 0-23, dayOfMonth 1-31, month 1-12, dayOfWeek 0-6 where 0 is Sunday
+     */
+    public boolean matches(int minute, int hour, int dayOfMonth, int month, int dayOfWeek) {
+        return (this.minutes & (1L << minute)) != 0
+                && (this.hours & (1 << hour)) != 0
+                && (this.months & (1 << month)) != 0
+                && matchesDay(dayOfMonth, dayOfWeek);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if(this == other) {
+            return true;
+        }
+        if(!(other instanceof CronSchedule)) {
+            return false;
+        }
+        CronSchedule that = (CronSchedule) other;
+        return this.minutes == that.minutes && this.hours == that.hours && this.daysOfMonth == that.daysOfMonth
+                && this.months == that.months && this.daysOfWeek == that.daysOfWeek
+                && this.dayOfMonthAsterisk == that.dayOfMonthAsterisk
+                && this.dayOfWeekAsterisk == that.dayOfWeekAsterisk;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(this.minutes);
+        result = 31 * result + this.hours;
+        result = 31 * result + this.daysOfMonth;
+        result = 31 * result + this.months;
+        result = 31 * result + this.daysOfWeek;
+        result = 31 * result + (this.dayOfMonthAsterisk ? 1 : 0);
+        result = 31 * result + (this.dayOfWeekAsterisk ? 1 : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CronSchedule{minutes=" + Long.toHexString(this.minutes)
+                + ", hours=" + Integer.toHexString(this.hours)
+                + ", daysOfMonth=" + Integer.toHexString(this.daysOfMonth)
+                + ", months=" + Integer.toHexString(this.months)
+                + ", daysOfWeek=" + Integer.toHexString(this.daysOfWeek) + "}";
+    }
+}
@@ -0,0 +1,107 @@
+package cronExpression.parser;
+
+/*
+    Character scanning helpers used by CronExpressionDescription in place of String.split, regular expressions and
+    Integer.parseInt on substrings. Everything works on offsets into the original CharSequence, hence no intermediate
+    arrays or strings are created.
+ */
+final class CronTokenizer {
+    // Returned by parseNumber when the characters do not form an int
+    static final long NOT_A_NUMBER = Long.MIN_VALUE;
+
+    private CronTokenizer() {}
+
+    /*
+        Any character considered white space by String.trim separates tokens, runs of them count as one separator
+     */
+    static boolean isSeparator(char character) {
+        return character <= ' ';
+    }
+
+    /*
+        Stores start (inclusive) and end (exclusive) offsets of every token in bounds as start, end pairs.
+        Returns the number of tokens found, which can be larger than the capacity of bounds; tokens beyond it are only
+        counted.
+     */
+    static int tokenize(CharSequence input, int[] bounds) {
+        int count = 0;
+        int length = input.length();
+        int position = 0;
+        while(position < length) {
+            while(position < length && isSeparator(input.charAt(position))) {
+                position++;
+            }
+            if(position == length) {
+                break;
+            }
+            int start = position;
+            while(position < length && !isSeparator(input.charAt(position))) {
+                position++;
+            }
+            if(2 * count + 1 < bounds.length) {
+                bounds[2 * count] = start;
+                bounds[2 * count + 1] = position;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /*
+        Index of character within [from, to) or -1
+     */
+    static int indexOf(CharSequence input, char character, int from, int to) {
+        for(int i = from; i < to; i++) {
+            if(input.charAt(i) == character) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /*
+        Number of occurrences of character within [from, to)
+     */
+    static int count(CharSequence input, char character, int from, int to) {
+        int count = 0;
+        for(int i = from; i < to; i++) {
+            if(input.charAt(i) == character) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /*
+        Parses [from, to) in place with the same rules as Integer.parseInt, i.e. an optional sign followed by decimal
+        digits within int range. Returns NOT_A_NUMBER instead of throwing NumberFormatException.
+     */
+    static long parseNumber(CharSequence input, int from, int to) {
+        if(from >= to) {
+            return NOT_A_NUMBER;
+        }
+        boolean negative = false;
+        int position = from;
+        char first = input.charAt(position);
+        if(first == '-' || first == '+') {
+            negative = first == '-';
+            position++;
+            if(position == to) {
+                return NOT_A_NUMBER;
+            }
+        }
+        long value = 0;
+        for(; position < to; position++) {
+            char character = input.charAt(position);
+            if(character < '0' || character > '9') {
+                return NOT_A_NUMBER;
+            }
+            value = value * 10 + (character - '0');
+            if(value > Integer.MAX_VALUE + 1L) {
+                return NOT_A_NUMBER;
+            }
+        }
+        value = negative ? -value : value;
+        return value > Integer.MAX_VALUE ? NOT_A_NUMBER : value;
+    }
+}
@@ -0,0 +1,56 @@
+package cronExpression.parser;
+
+import cronExpression.enums.OutputFieldName;
+import cronExpression.enums.ValidationError;
+import cronExpression.metrics.Counter;
+import cronExpression.metrics.Metrics;
+import cronExpression.metrics.MetricsRegistry;
+
+/*
+    Filled in by the field parsing of CronExpressionDescription instead of throwing, one instance per parse
+ */
+final class FieldFailure {
+    // Returned by parsing in place of a mask once the failure is recorded, no valid mask has bit 63 set
+    static final long INVALID = -1L;
+
+    private ValidationError error;
+    private OutputFieldName outputFieldName;
+    private int column;
+    private long startPart;
+    private long endPart;
+
+    long invalidRange(OutputFieldName outputFieldName, int column) {
+        return record(ValidationError.INVALID_RANGE, outputFieldName, column, 0, 0);
+    }
+
+    long invalidRangeStartEnd(OutputFieldName outputFieldName, int column, long startPart, long endPart) {
+        return record(ValidationError.INVALID_RANGE_START_END, outputFieldName, column, startPart, endPart);
+    }
+
+    long invalidDayFields(int column) {
+        return record(ValidationError.INVALID_DAY_FIELDS, null, column, 0, 0);
+    }
+
+    /*
+        Input: columnOffset: added to the column, for ex: white space trimmed off before parsing
+     */
+    ValidationResult toResult(int columnOffset) {
+        return ValidationResult.failure(this.error, this.outputFieldName, this.column + columnOffset,
+                this.startPart, this.endPart);
+    }
+
+    private long record(ValidationError error, OutputFieldName outputFieldName, int column, long startPart,
+                        long endPart) {
+        this.error = error;
+        this.outputFieldName = outputFieldName;
+        this.column = column;
+        this.startPart = startPart;
+        this.endPart = endPart;
+        MetricsRegistry metrics = Metrics.registry();
+        metrics.increment(Counter.VALIDATION_FAILURES);
+        if(outputFieldName != null) {
+            metrics.fieldFailure(outputFieldName);
+        }
+        return INVALID;
+    }
+}
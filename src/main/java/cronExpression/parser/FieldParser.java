@@ -0,0 +1,194 @@
+package cronExpression.parser;
+
+import cronExpression.enums.OutputFieldName;
+import cronExpression.metrics.Counter;
+import cronExpression.metrics.Metrics;
+
+/*
+    Parsing of a single schedule field into its bitmask, shared by the five field and the Quartz syntax.
+    Works on offsets into the expression and reports failures through FieldFailure, hence nothing is allocated and no
+    exception is created for invalid input.
+ */
+final class FieldParser {
+    private FieldParser() {}
+
+    /*
+        Input: 1) expression with start (inclusive) and end (exclusive) of the part mapped to fieldName
+               2) OutputFieldName: specific part of cron expression in reference to input expression
+               3) failure: receives the reason when the part is not valid
+        Gets bitmask of input expression part, a comma separated list of elements where every element is one of
+        *, * /${step}, ${number}, ${number}/${step}, ${number}-${number} or ${number}-${number}/${step}
+        Numbers may be given as aliases of the field as well, for ex: JAN or MON
+        Values of all elements are merged into one mask, hence duplicates collapse and output is sorted
+        Returns FieldFailure.INVALID instead of throwing, exceptions are created by callers that want them only
+     */
+    static long parse(CharSequence expression, int start, int end, OutputFieldName outputFieldName,
+                      FieldFailure failure) {
+        long mask;
+        if(CronTokenizer.indexOf(expression, ',', start, end) >= 0) {
+            mask = expressionForComma(expression, start, end, outputFieldName, failure);
+        } else {
+            mask = expressionForElement(expression, start, end, outputFieldName, failure);
+            if(mask == 0) {
+                return failure.invalidRange(outputFieldName, start);
+            }
+        }
+        if(mask == FieldFailure.INVALID) {
+            return mask;
+        }
+        // Values above end wrap around to begin, i.e. 7 is Sunday in day of week
+        long wrapped = mask >>> (outputFieldName.getEnd() + 1);
+        if(wrapped != 0) {
+            mask = (mask ^ (wrapped << (outputFieldName.getEnd() + 1))) | (wrapped << outputFieldName.getBegin());
+        }
+        return mask;
+    }
+
+    /*
+        Mask of a single list element. Returns 0 when the element is a plain number out of the range of
+        outputFieldName, the error reported for it depends on whether it is part of a list.
+     */
+    private static long expressionForElement(CharSequence expression, int start, int end,
+                                             OutputFieldName outputFieldName, FieldFailure failure) {
+        if(start == end) {
+            return failure.invalidRange(outputFieldName, start);
+        }
+        int slash = CronTokenizer.indexOf(expression, '/', start, end);
+        int rangeEnd = slash >= 0 ? slash : end;
+        long step = 1;
+        if(slash >= 0) {
+            step = CronTokenizer.parseNumber(expression, slash + 1, end);
+            // Steps of zero or less would never move past begin, NOT_A_NUMBER is negative as well
+            if(step <= 0) {
+                return failure.invalidRange(outputFieldName, start);
+            }
+            Metrics.registry().increment(Counter.STEP_ELEMENTS);
+        }
+        if(expression.charAt(start) == '*') {
+            return expressionForAsterisk(start, rangeEnd, outputFieldName, step, failure);
+        } else if(CronTokenizer.indexOf(expression, '-', start, rangeEnd) >= 0) {
+            long mask = expressionForHyphen(expression, start, rangeEnd, outputFieldName, failure);
+            if(slash < 0 || mask == FieldFailure.INVALID) {
+                return mask;
+            }
+            return stepMask(Long.numberOfTrailingZeros(mask), 63 - Long.numberOfLeadingZeros(mask), step);
+        }
+        Metrics.registry().increment(Counter.VALUE_ELEMENTS);
+        long value = parseValue(expression, start, rangeEnd, outputFieldName);
+        if(value == CronTokenizer.NOT_A_NUMBER) {
+            return failure.invalidRange(outputFieldName, start);
+        }
+        if(outputFieldName.getBegin() > value || outputFieldName.getAcceptedEnd() < value) {
+            return 0;
+        }
+        // ${number}/${step} runs from number to the end of the field
+        return slash >= 0 ? stepMask((int) value, outputFieldName.getAcceptedEnd(), step) : 1L << value;
+    }
+
+    /*
+        Function for special character '*' where all values in outputFieldName range are selected, with * /${number}
+        selecting steps of ${number} within range of outputFieldName
+        Ex: * / 2 denotes every 2nd day of the week when OutputFieldName is dayOfWeek
+     */
+    private static long expressionForAsterisk(int start, int end, OutputFieldName outputFieldName, long step,
+                                              FieldFailure failure) {
+        Metrics.registry().increment(Counter.ASTERISK_ELEMENTS);
+        if(end - start == 1) {
+            return StepTable.mask(outputFieldName, step);
+        }
+        return failure.invalidRange(outputFieldName, start);
+    }
+
+    /*
+        Function for special character ',' where every element of the list is selected else error is reported.
+        A plain number out of range is reported together with the first and last number of the list.
+     */
+    private static long expressionForComma(CharSequence expression, int start, int end,
+                                           OutputFieldName outputFieldName, FieldFailure failure) {
+        Metrics.registry().increment(Counter.LIST_FIELDS);
+        long mask = 0;
+        int elementStart = start;
+        while(true) {
+            int comma = CronTokenizer.indexOf(expression, ',', elementStart, end);
+            int elementEnd = comma >= 0 ? comma : end;
+            long elementMask = expressionForElement(expression, elementStart, elementEnd, outputFieldName, failure);
+            if(elementMask == FieldFailure.INVALID) {
+                return elementMask;
+            }
+            if(elementMask == 0) {
+                return invalidListValue(expression, start, end, outputFieldName, failure);
+            }
+            mask |= elementMask;
+            if(comma < 0) {
+                return mask;
+            }
+            elementStart = comma + 1;
+        }
+    }
+
+    /*
+        Function for special character '-' where input range in range of outputFieldName are selected else error is
+        reported
+     */
+    private static long expressionForHyphen(CharSequence expression, int start, int end,
+                                            OutputFieldName outputFieldName, FieldFailure failure) {
+        Metrics.registry().increment(Counter.RANGE_ELEMENTS);
+        int begin = outputFieldName.getBegin();
+        int finish = outputFieldName.getAcceptedEnd();
+
+        // Acceptable format: ${number}-${number} in range for field
+        int hyphen = CronTokenizer.indexOf(expression, '-', start, end);
+        if(CronTokenizer.count(expression, '-', start, end) != 1) {
+            return failure.invalidRange(outputFieldName, start);
+        }
+        long startPart = parseValue(expression, start, hyphen, outputFieldName);
+        long endPart = parseValue(expression, hyphen + 1, end, outputFieldName);
+        if(startPart == CronTokenizer.NOT_A_NUMBER || endPart == CronTokenizer.NOT_A_NUMBER) {
+            return failure.invalidRange(outputFieldName, start);
+        }
+        if(startPart > endPart || startPart < begin || startPart > finish
+                || endPart < (begin + 1) || endPart > finish) {
+            return failure.invalidRangeStartEnd(outputFieldName, start, startPart, endPart);
+        }
+        return CronSchedule.rangeMask((int) startPart, (int) endPart);
+    }
+
+    /*
+        Number or alias of outputFieldName in [from, to), NOT_A_NUMBER if it is neither
+     */
+    static long parseValue(CharSequence expression, int from, int to, OutputFieldName outputFieldName) {
+        long value = CronTokenizer.parseNumber(expression, from, to);
+        if(value == CronTokenizer.NOT_A_NUMBER) {
+            int alias = outputFieldName.aliasValue(expression, from, to);
+            return alias >= 0 ? alias : CronTokenizer.NOT_A_NUMBER;
+        }
+        return value;
+    }
+
+    /*
+        Every step-th value from first to last (both inclusive)
+     */
+    static long stepMask(int first, int last, long step) {
+        long mask = 0;
+        for(long value = first; value <= last; value += step) {
+            mask |= 1L << value;
+        }
+        return mask;
+    }
+
+    private static long invalidListValue(CharSequence expression, int start, int end,
+                                         OutputFieldName outputFieldName, FieldFailure failure) {
+        long first = parseValue(expression, start, CronTokenizer.indexOf(expression, ',', start, end), outputFieldName);
+        int lastComma = start;
+        for(int i = start; i < end; i++) {
+            if(expression.charAt(i) == ',') {
+                lastComma = i;
+            }
+        }
+        long last = parseValue(expression, lastComma + 1, end, outputFieldName);
+        if(first == CronTokenizer.NOT_A_NUMBER || last == CronTokenizer.NOT_A_NUMBER) {
+            return failure.invalidRange(outputFieldName, start);
+        }
+        return failure.invalidRangeStartEnd(outputFieldName, start, first, last);
+    }
+}
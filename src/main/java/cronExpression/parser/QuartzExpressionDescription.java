@@ -0,0 +1,272 @@
+package cronExpression.parser;
+
+import cronExpression.enums.OutputFieldName;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.render.ColumnDescriptionRenderer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static cronExpression.errorMessages.ErrorMessages.INCORRECT_QUARTZ_ARGUMENTS;
+
+/*
+    Quartz-compatible counterpart of CronExpressionDescription for expressions of the form
+    ${second} ${minute} ${hour} ${day of month} ${month} ${day of week} [${year}]
+    without command. Day of week counts from 1 for Sunday to 7 for Saturday, exactly one of the day fields has to be
+    '?', and besides the list syntax of the five field format the day fields accept
+        day of month: L (last day), L-${offset}, LW (last weekday), ${day}W (weekday nearest to day)
+        day of week: L (Saturday), ${dow}L (last such day of week in month), ${dow}#${n} (n-th such day of week)
+    Every field is compiled into the bitmasks of a QuartzSchedule.
+ */
+public class QuartzExpressionDescription {
+    private final String expression;
+
+    // Start (inclusive) and end (exclusive) offsets of every part of the expression in expression
+    private final int[] partBounds = new int[2 * MAXIMUM_PARTS];
+    private final int parts;
+
+    // Compiled form of the fields, created on first use since parsing may throw InvalidInputException
+    private volatile QuartzSchedule schedule;
+
+    private static final int MINIMUM_PARTS = 6;
+    private static final int MAXIMUM_PARTS = 7;
+
+    private static final int SECOND_INDEX = 0;
+    private static final int MINUTE_INDEX = 1;
+    private static final int HOUR_INDEX = 2;
+    private static final int DAY_OF_MONTH_INDEX = 3;
+    private static final int MONTH_INDEX = 4;
+    private static final int DAY_OF_WEEK_INDEX = 5;
+    private static final int YEAR_INDEX = 6;
+
+    // Largest n of ${dow}#${n}, no day of week occurs more than 5 times in a month
+    private static final int MAXIMUM_NTH = 5;
+
+    // Used for formatting output so that first 14 columns are taken by fieldName
+    private static final ColumnDescriptionRenderer COLUMN_RENDERER = new ColumnDescriptionRenderer();
+
+    /*
+        Scans the input Quartz expression for parts separated by runs of white space and throws exception if there are
+        not 6 or 7 of them
+        Input: CronExpression
+     */
+    public QuartzExpressionDescription(CronExpression cronExpression) throws IncorrectArgumentsException {
+        this.expression = cronExpression.getExpression();
+        this.parts = CronTokenizer.tokenize(this.expression, this.partBounds);
+        if(this.parts < MINIMUM_PARTS || this.parts > MAXIMUM_PARTS) {
+            throw new IncorrectArgumentsException(INCORRECT_QUARTZ_ARGUMENTS);
+        }
+    }
+
+    /*
+        Output format is defined as second, minute, hour, dayOfMonth, month, dayOfWeek and year, one line each
+     */
+    public String getDescription() throws InvalidInputException {
+        QuartzSchedule quartzSchedule = getSchedule();
+        StringBuilder descriptionBuilder = new StringBuilder();
+        try {
+            COLUMN_RENDERER.renderQuartzSchedule(quartzSchedule, descriptionBuilder);
+        } catch (IOException exception) {
+            // StringBuilder does not throw IOException
+            throw new UncheckedIOException(exception);
+        }
+        return descriptionBuilder.toString();
+    }
+
+    /*
+        Compiles the fields into a QuartzSchedule once per instance.
+        Throws InvalidInputException for the first field (in expression order) that is not valid
+     */
+    public QuartzSchedule getSchedule() throws InvalidInputException {
+        QuartzSchedule quartzSchedule = this.schedule;
+        if(quartzSchedule == null) {
+            FieldFailure failure = new FieldFailure();
+            quartzSchedule = compile(failure);
+            if(quartzSchedule == null) {
+                throw new InvalidInputException(failure.toResult(0).getMessage());
+            }
+            this.schedule = quartzSchedule;
+        }
+        return quartzSchedule;
+    }
+
+    private int partStart(int index) {
+        return this.partBounds[2 * index];
+    }
+
+    private int partEnd(int index) {
+        return this.partBounds[2 * index + 1];
+    }
+
+    private long parsePart(int index, OutputFieldName outputFieldName, FieldFailure failure) {
+        return FieldParser.parse(this.expression, partStart(index), partEnd(index), outputFieldName, failure);
+    }
+
+    private boolean isUnspecified(int index) {
+        return partEnd(index) - partStart(index) == 1 && this.expression.charAt(partStart(index)) == '?';
+    }
+
+    /*
+        Parses all fields, returns null after recording the first field (in expression order) that is not valid in
+        failure
+     */
+    private QuartzSchedule compile(FieldFailure failure) {
+        long seconds = parsePart(SECOND_INDEX, OutputFieldName.SECOND, failure);
+        if(seconds == FieldFailure.INVALID) {
+            return null;
+        }
+        long minutes = parsePart(MINUTE_INDEX, OutputFieldName.MINUTE, failure);
+        if(minutes == FieldFailure.INVALID) {
+            return null;
+        }
+        long hours = parsePart(HOUR_INDEX, OutputFieldName.HOUR, failure);
+        if(hours == FieldFailure.INVALID) {
+            return null;
+        }
+
+        boolean dayOfMonthUnspecified = isUnspecified(DAY_OF_MONTH_INDEX);
+        int daysOfMonth = 0;
+        int lastDayOffset = -1;
+        boolean lastWeekday = false;
+        int nearestWeekdays = 0;
+        if(!dayOfMonthUnspecified) {
+            int start = partStart(DAY_OF_MONTH_INDEX);
+            int end = partEnd(DAY_OF_MONTH_INDEX);
+            if(Character.toUpperCase(this.expression.charAt(start)) == 'L') {
+                if(end - start == 1) {
+                    lastDayOffset = 0;
+                } else if(end - start == 2 && Character.toUpperCase(this.expression.charAt(start + 1)) == 'W') {
+                    lastWeekday = true;
+                } else if(this.expression.charAt(start + 1) == '-') {
+                    long offset = CronTokenizer.parseNumber(this.expression, start + 2, end);
+                    if(offset < 0 || offset >= OutputFieldName.DAY_OF_MONTH.getEnd()) {
+                        failure.invalidRange(OutputFieldName.DAY_OF_MONTH, start);
+                        return null;
+                    }
+                    lastDayOffset = (int) offset;
+                } else {
+                    failure.invalidRange(OutputFieldName.DAY_OF_MONTH, start);
+                    return null;
+                }
+            } else if(Character.toUpperCase(this.expression.charAt(end - 1)) == 'W') {
+                long day = CronTokenizer.parseNumber(this.expression, start, end - 1);
+                if(day < OutputFieldName.DAY_OF_MONTH.getBegin() || day > OutputFieldName.DAY_OF_MONTH.getEnd()) {
+                    failure.invalidRange(OutputFieldName.DAY_OF_MONTH, start);
+                    return null;
+                }
+                nearestWeekdays = 1 << day;
+            } else {
+                long mask = parsePart(DAY_OF_MONTH_INDEX, OutputFieldName.DAY_OF_MONTH, failure);
+                if(mask == FieldFailure.INVALID) {
+                    return null;
+                }
+                daysOfMonth = (int) mask;
+            }
+        }
+
+        long months = parsePart(MONTH_INDEX, OutputFieldName.MONTH, failure);
+        if(months == FieldFailure.INVALID) {
+            return null;
+        }
+
+        boolean dayOfWeekUnspecified = isUnspecified(DAY_OF_WEEK_INDEX);
+        int daysOfWeek = 0;
+        int lastDaysOfWeek = 0;
+        long nthDaysOfWeek = 0;
+        if(!dayOfWeekUnspecified) {
+            OutputFieldName dayOfWeek = OutputFieldName.QUARTZ_DAY_OF_WEEK;
+            int start = partStart(DAY_OF_WEEK_INDEX);
+            int end = partEnd(DAY_OF_WEEK_INDEX);
+            int hash = CronTokenizer.indexOf(this.expression, '#', start, end);
+            if(hash >= 0) {
+                long value = FieldParser.parseValue(this.expression, start, hash, dayOfWeek);
+                long nth = CronTokenizer.parseNumber(this.expression, hash + 1, end);
+                if(value < dayOfWeek.getBegin() || value > dayOfWeek.getEnd() || nth < 1 || nth > MAXIMUM_NTH) {
+                    failure.invalidRange(dayOfWeek, start);
+                    return null;
+                }
+                nthDaysOfWeek = 1L << (7 * (nth - 1) + value - dayOfWeek.getBegin());
+            } else if(end - start == 1 && Character.toUpperCase(this.expression.charAt(start)) == 'L') {
+                // L alone is the last day of the week, i.e. every Saturday
+                daysOfWeek = 1 << (dayOfWeek.getEnd() - dayOfWeek.getBegin());
+            } else if(Character.toUpperCase(this.expression.charAt(end - 1)) == 'L') {
+                long value = FieldParser.parseValue(this.expression, start, end - 1, dayOfWeek);
+                if(value < dayOfWeek.getBegin() || value > dayOfWeek.getEnd()) {
+                    failure.invalidRange(dayOfWeek, start);
+                    return null;
+                }
+                lastDaysOfWeek = 1 << (value - dayOfWeek.getBegin());
+            } else {
+                long mask = parsePart(DAY_OF_WEEK_INDEX, dayOfWeek, failure);
+                if(mask == FieldFailure.INVALID) {
+                    return null;
+                }
+                daysOfWeek = (int) (mask >>> dayOfWeek.getBegin());
+            }
+        }
+        if(dayOfMonthUnspecified == dayOfWeekUnspecified) {
+            failure.invalidDayFields(partStart(DAY_OF_MONTH_INDEX));
+            return null;
+        }
+
+        long[] years = this.parts > YEAR_INDEX
+                ? parseYears(this.expression, partStart(YEAR_INDEX), partEnd(YEAR_INDEX), failure)
+                : QuartzSchedule.yearMask(QuartzSchedule.FIRST_YEAR, QuartzSchedule.LAST_YEAR, 1);
+        if(years == null) {
+            return null;
+        }
+        return new QuartzSchedule(seconds, minutes, (int) hours, daysOfMonth, (int) months, daysOfWeek, years,
+                dayOfMonthUnspecified, lastDayOffset, lastWeekday, nearestWeekdays, lastDaysOfWeek, nthDaysOfWeek);
+    }
+
+    /*
+        Year field with the list syntax of the other fields, years do not fit into a long hence the separate parsing.
+        Returns null after recording the failure.
+     */
+    private static long[] parseYears(CharSequence expression, int start, int end, FieldFailure failure) {
+        OutputFieldName year = OutputFieldName.YEAR;
+        long[] years = new long[QuartzSchedule.YEAR_WORDS];
+        int elementStart = start;
+        while(elementStart <= end) {
+            int comma = CronTokenizer.indexOf(expression, ',', elementStart, end);
+            int elementEnd = comma >= 0 ? comma : end;
+            if(elementStart == elementEnd) {
+                failure.invalidRange(year, elementStart);
+                return null;
+            }
+            int slash = CronTokenizer.indexOf(expression, '/', elementStart, elementEnd);
+            int rangeEnd = slash >= 0 ? slash : elementEnd;
+            long step = slash >= 0 ? CronTokenizer.parseNumber(expression, slash + 1, elementEnd) : 1;
+            int hyphen = CronTokenizer.indexOf(expression, '-', elementStart, rangeEnd);
+            long first;
+            long last;
+            if(rangeEnd - elementStart == 1 && expression.charAt(elementStart) == '*') {
+                first = year.getBegin();
+                last = year.getEnd();
+            } else if(hyphen >= 0) {
+                first = CronTokenizer.parseNumber(expression, elementStart, hyphen);
+                last = CronTokenizer.parseNumber(expression, hyphen + 1, rangeEnd);
+                if(first != CronTokenizer.NOT_A_NUMBER && last != CronTokenizer.NOT_A_NUMBER
+                        && (first > last || first < year.getBegin() || last > year.getEnd())) {
+                    failure.invalidRangeStartEnd(year, elementStart, first, last);
+                    return null;
+                }
+            } else {
+                first = CronTokenizer.parseNumber(expression, elementStart, rangeEnd);
+                // ${year}/${step} runs from year to the last supported year
+                last = slash >= 0 ? year.getEnd() : first;
+            }
+            if(step <= 0 || first < year.getBegin() || last < first || last > year.getEnd()) {
+                failure.invalidRange(year, elementStart);
+                return null;
+            }
+            long[] elementYears = QuartzSchedule.yearMask((int) first, (int) last, step);
+            for(int word = 0; word < years.length; word++) {
+                years[word] |= elementYears[word];
+            }
+            elementStart = elementEnd + 1;
+        }
+        return years;
+    }
+}
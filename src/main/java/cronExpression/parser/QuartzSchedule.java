@@ -0,0 +1,238 @@
+package cronExpression.parser;
+
+import cronExpression.enums.OutputFieldName;
+
+import java.util.Arrays;
+
+/*
+    Compiled and immutable form of a Quartz expression: second, minute, hour, day of month, month, day of week and year.
+    Like CronSchedule every field is a bitmask where bit n denotes value n, day of week counts from 0 for Sunday and
+    years are bits of year - 1970 spread over three longs.
+    Day specials that depend on the month are kept as masks as well:
+        L-${offset}   lastDayOffset, days before the last day of month (0 for L), -1 if absent
+        LW            lastWeekday, last Monday to Friday of month
+        ${day}W       nearestWeekdays, bit day set for the Monday to Friday nearest to day
+        ${dow}L       lastDaysOfWeek, bit dow set for the last such day of week in month
+        ${dow}#${n}   nthDaysOfWeek, bit 7 * (n - 1) + dow set for the n-th such day of week in month
+    Quartz requires '?' in exactly one of the day fields, only the other one decides the days a schedule fires on.
+ */
+public final class QuartzSchedule {
+    public static final int FIRST_YEAR = 1970;
+    public static final int LAST_YEAR = 2099;
+
+    static final int YEAR_WORDS = (LAST_YEAR - FIRST_YEAR) / Long.SIZE + 1;
+
+    private final long seconds;
+    private final long minutes;
+    private final int hours;
+    private final int daysOfMonth;
+    private final int months;
+    private final int daysOfWeek;
+    private final long[] years;
+
+    // True when day of month is '?', i.e. days are decided by day of week
+    private final boolean dayOfMonthUnspecified;
+
+    private final int lastDayOffset;
+    private final boolean lastWeekday;
+    private final int nearestWeekdays;
+    private final int lastDaysOfWeek;
+    private final long nthDaysOfWeek;
+
+    QuartzSchedule(long seconds, long minutes, int hours, int daysOfMonth, int months, int daysOfWeek, long[] years,
+                   boolean dayOfMonthUnspecified, int lastDayOffset, boolean lastWeekday, int nearestWeekdays,
+                   int lastDaysOfWeek, long nthDaysOfWeek) {
+        this.seconds = seconds;
+        this.minutes = minutes;
+        this.hours = hours;
+        this.daysOfMonth = daysOfMonth;
+        this.months = months;
+        this.daysOfWeek = daysOfWeek;
+        this.years = Arrays.copyOf(years, YEAR_WORDS);
+        this.dayOfMonthUnspecified = dayOfMonthUnspecified;
+        this.lastDayOffset = lastDayOffset;
+        this.lastWeekday = lastWeekday;
+        this.nearestWeekdays = nearestWeekdays;
+        this.lastDaysOfWeek = lastDaysOfWeek;
+        this.nthDaysOfWeek = nthDaysOfWeek;
+    }
+
+    /*
+        Mask with bits year - FIRST_YEAR set for every year from first to last (both inclusive) stepping by step
+     */
+    static long[] yearMask(int first, int last, long step) {
+        long[] mask = new long[YEAR_WORDS];
+        for(long year = first; year <= last; year += step) {
+            int bit = (int) year - FIRST_YEAR;
+            mask[bit >>> 6] |= 1L << bit;
+        }
+        return mask;
+    }
+
+    public long getSeconds() {
+        return this.seconds;
+    }
+
+    public long getMinutes() {
+        return this.minutes;
+    }
+
+    public int getHours() {
+        return this.hours;
+    }
+
+    /*
+        Plain day of month values, without L and W
+     */
+    public int getDaysOfMonth() {
+        return this.daysOfMonth;
+    }
+
+    public int getMonths() {
+        return this.months;
+    }
+
+    /*
+        Plain day of week values from 0 for Sunday, without L and #
+     */
+    public int getDaysOfWeek() {
+        return this.daysOfWeek;
+    }
+
+    public boolean isDayOfMonthUnspecified() {
+        return this.dayOfMonthUnspecified;
+    }
+
+    public int getLastDayOffset() {
+        return this.lastDayOffset;
+    }
+
+    public boolean isLastWeekday() {
+        return this.lastWeekday;
+    }
+
+    public int getNearestWeekdays() {
+        return this.nearestWeekdays;
+    }
+
+    public int getLastDaysOfWeek() {
+        return this.lastDaysOfWeek;
+    }
+
+    public long getNthDaysOfWeek() {
+        return this.nthDaysOfWeek;
+    }
+
+    public boolean containsYear(int year) {
+        if(year < FIRST_YEAR || year > LAST_YEAR) {
+            return false;
+        }
+        int bit = year - FIRST_YEAR;
+        return (this.years[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /*
+        Smallest year >= from in the schedule or -1
+     */
+    public int nextYear(int from) {
+        int bit = Math.max(from, FIRST_YEAR) - FIRST_YEAR;
+        for(int word = bit >>> 6; word < YEAR_WORDS; word++) {
+            long remaining = this.years[word] & (word == bit >>> 6 ? -1L << bit : -1L);
+            if(remaining != 0) {
+                return FIRST_YEAR + (word << 6) + Long.numberOfTrailingZeros(remaining);
+            }
+        }
+        return -1;
+    }
+
+    /*
+        Largest year <= from in the schedule or -1
+     */
+    public int previousYear(int from) {
+        if(from < FIRST_YEAR) {
+            return -1;
+        }
+        int bit = Math.min(from, LAST_YEAR) - FIRST_YEAR;
+        for(int word = bit >>> 6; word >= 0; word--) {
+            long remaining = this.years[word] & (word == bit >>> 6 ? -1L >>> (63 - (bit & 63)) : -1L);
+            if(remaining != 0) {
+                return FIRST_YEAR + (word << 6) + 63 - Long.numberOfLeadingZeros(remaining);
+            }
+        }
+        return -1;
+    }
+
+    /*
+        Bitmask of the given field widened to long, years are not supported as they do not fit into a long
+     */
+    public long getMask(OutputFieldName outputFieldName) {
+        switch (outputFieldName) {
+            case SECOND:
+                return this.seconds;
+            case MINUTE:
+                return this.minutes;
+            case HOUR:
+                return this.hours & 0xFFFFFFFFL;
+            case DAY_OF_MONTH:
+                return this.daysOfMonth & 0xFFFFFFFFL;
+            case MONTH:
+                return this.months & 0xFFFFFFFFL;
+            case DAY_OF_WEEK:
+                return this.daysOfWeek & 0xFFFFFFFFL;
+            default:
+                throw new IllegalArgumentException("Unsupported field " + outputFieldName);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if(this == other) {
+            return true;
+        }
+        if(!(other instanceof QuartzSchedule)) {
+            return false;
+        }
+        QuartzSchedule that = (QuartzSchedule) other;
+        return this.seconds == that.seconds && this.minutes == that.minutes && this.hours == that.hours
+                && this.daysOfMonth == that.daysOfMonth && this.months == that.months
+                && this.daysOfWeek == that.daysOfWeek && Arrays.equals(this.years, that.years)
+                && this.dayOfMonthUnspecified == that.dayOfMonthUnspecified
+                && this.lastDayOffset == that.lastDayOffset && this.lastWeekday == that.lastWeekday
+                && this.nearestWeekdays == that.nearestWeekdays && this.lastDaysOfWeek == that.lastDaysOfWeek
+                && this.nthDaysOfWeek == that.nthDaysOfWeek;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(this.seconds);
+        result = 31 * result + Long.hashCode(this.minutes);
+        result = 31 * result + this.hours;
+        result = 31 * result + this.daysOfMonth;
+        result = 31 * result + this.months;
+        result = 31 * result + this.daysOfWeek;
+        result = 31 * result + Arrays.hashCode(this.years);
+        result = 31 * result + (this.dayOfMonthUnspecified ? 1 : 0);
+        result = 31 * result + this.lastDayOffset;
+        result = 31 * result + (this.lastWeekday ? 1 : 0);
+        result = 31 * result + this.nearestWeekdays;
+        result = 31 * result + this.lastDaysOfWeek;
+        result = 31 * result + Long.hashCode(this.nthDaysOfWeek);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "QuartzSchedule{seconds=" + Long.toHexString(this.seconds)
+                + ", minutes=" + Long.toHexString(this.minutes)
+                + ", hours=" + Integer.toHexString(this.hours)
+                + ", daysOfMonth=" + Integer.toHexString(this.daysOfMonth)
+                + ", months=" + Integer.toHexString(this.months)
+                + ", daysOfWeek=" + Integer.toHexString(this.daysOfWeek)
+                + ", dayOfMonthUnspecified=" + this.dayOfMonthUnspecified
+                + ", lastDayOffset=" + this.lastDayOffset
+                + ", lastWeekday=" + this.lastWeekday
+                + ", nearestWeekdays=" + Integer.toHexString(this.nearestWeekdays)
+                + ", lastDaysOfWeek=" + Integer.toHexString(this.lastDaysOfWeek)
+                + ", nthDaysOfWeek=" + Long.toHexString(this.nthDaysOfWeek) + "}";
+    }
+}
@@ -0,0 +1,101 @@
+package cronExpression.parser;
+
+import cronExpression.enums.OutputFieldName;
+
+/*
+    Value sets and rendered values of "*" and "* /${step}" (without space) for every field and step, computed once
+    when the class is loaded. A field of 0-59 has 60 distinct step results at most, since every step larger than the
+    span of the field selects begin only, so the whole table holds a few hundred entries.
+    Wildcard fields, the majority of real world expressions, are looked up here instead of being rebuilt value by value
+    on every parse and render.
+ */
+public final class StepTable {
+    private static final OutputFieldName[] FIELDS = OutputFieldName.values();
+
+    // MASKS[field ordinal][step] for steps 1 to span + 1 of the field, index 0 is unused
+    private static final long[][] MASKS = new long[FIELDS.length][];
+
+    // Rendered values of MASKS, separated by space and by comma
+    private static final String[][] SPACE_SEPARATED = new String[FIELDS.length][];
+    private static final String[][] COMMA_SEPARATED = new String[FIELDS.length][];
+
+    static {
+        for(OutputFieldName outputFieldName : FIELDS) {
+            // Years do not fit into a long mask
+            if(outputFieldName.getEnd() >= Long.SIZE) {
+                continue;
+            }
+            int ordinal = outputFieldName.ordinal();
+            int steps = span(outputFieldName) + 1;
+            MASKS[ordinal] = new long[steps + 1];
+            SPACE_SEPARATED[ordinal] = new String[steps + 1];
+            COMMA_SEPARATED[ordinal] = new String[steps + 1];
+            for(int step = 1; step <= steps; step++) {
+                long mask = 0;
+                StringBuilder spaceSeparated = new StringBuilder();
+                StringBuilder commaSeparated = new StringBuilder();
+                for(int value = outputFieldName.getBegin(); value <= outputFieldName.getEnd(); value += step) {
+                    if(mask != 0) {
+                        spaceSeparated.append(' ');
+                        commaSeparated.append(',');
+                    }
+                    mask |= 1L << value;
+                    spaceSeparated.append(value);
+                    commaSeparated.append(value);
+                }
+                MASKS[ordinal][step] = mask;
+                SPACE_SEPARATED[ordinal][step] = spaceSeparated.toString();
+                COMMA_SEPARATED[ordinal][step] = commaSeparated.toString();
+            }
+        }
+    }
+
+    private StepTable() {}
+
+    /*
+        Mask of every step-th value of outputFieldName starting at its begin, step 1 being "*".
+        Throws IllegalArgumentException for steps of zero or less and for fields whose values do not fit into a mask
+     */
+    public static long mask(OutputFieldName outputFieldName, long step) {
+        if(step <= 0) {
+            throw new IllegalArgumentException("Step must be positive: " + step);
+        }
+        long[] masks = MASKS[outputFieldName.ordinal()];
+        if(masks == null) {
+            throw new IllegalArgumentException("Unsupported field " + outputFieldName);
+        }
+        return masks[(int) Math.min(step, masks.length - 1)];
+    }
+
+    /*
+        Step of mask if it is the mask of a step of outputFieldName, 0 otherwise. Steps larger than the span of the
+        field are reported as span + 1.
+     */
+    public static int stepOf(OutputFieldName outputFieldName, long mask) {
+        long[] masks = MASKS[outputFieldName.ordinal()];
+        int begin = outputFieldName.getBegin();
+        if(masks == null || (mask & -mask) != 1L << begin) {
+            return 0;
+        }
+        long rest = mask & (mask - 1);
+        int step = rest == 0 ? span(outputFieldName) + 1 : Long.numberOfTrailingZeros(rest) - begin;
+        return step < masks.length && masks[step] == mask ? step : 0;
+    }
+
+    /*
+        Shared rendering of the values in mask separated by separator, or null when mask is not a step of
+        outputFieldName or separator is neither space nor comma
+     */
+    public static String renderedValues(OutputFieldName outputFieldName, long mask, char separator) {
+        String[][] renderings = separator == ' ' ? SPACE_SEPARATED : separator == ',' ? COMMA_SEPARATED : null;
+        if(renderings == null) {
+            return null;
+        }
+        int step = stepOf(outputFieldName, mask);
+        return step == 0 ? null : renderings[outputFieldName.ordinal()][step];
+    }
+
+    private static int span(OutputFieldName outputFieldName) {
+        return outputFieldName.getEnd() - outputFieldName.getBegin();
+    }
+}
@@ -0,0 +1,109 @@
+package cronExpression.parser;
+
+import cronExpression.enums.OutputFieldName;
+import cronExpression.enums.ValidationError;
+
+import java.text.MessageFormat;
+
+/*
+    Outcome of validating an expression without exceptions: the compiled schedule if it is valid, else what is wrong
+    and where. The message is only formatted when asked for, so rejecting an expression costs no more than accepting it.
+ */
+public final class ValidationResult {
+    private final CronSchedule schedule;
+    private final ValidationError error;
+    private final OutputFieldName outputFieldName;
+    private final int column;
+
+    // Numbers reported by INVALID_RANGE_START_END
+    private final long startPart;
+    private final long endPart;
+
+    private String message;
+
+    private ValidationResult(CronSchedule schedule, ValidationError error, OutputFieldName outputFieldName, int column,
+                             long startPart, long endPart) {
+        this.schedule = schedule;
+        this.error = error;
+        this.outputFieldName = outputFieldName;
+        this.column = column;
+        this.startPart = startPart;
+        this.endPart = endPart;
+    }
+
+    static ValidationResult valid(CronSchedule cronSchedule) {
+        return new ValidationResult(cronSchedule, null, null, -1, 0, 0);
+    }
+
+    static ValidationResult failure(ValidationError error, OutputFieldName outputFieldName, int column,
+                                    long startPart, long endPart) {
+        return new ValidationResult(null, error, outputFieldName, column, startPart, endPart);
+    }
+
+    public boolean isValid() {
+        return this.error == null;
+    }
+
+    /*
+        Compiled schedule, null if not valid
+     */
+    public CronSchedule getSchedule() {
+        return this.schedule;
+    }
+
+    /*
+        Reason of failure, null if valid
+     */
+    public ValidationError getError() {
+        return this.error;
+    }
+
+    /*
+        Field the failure was found in, null if valid or the failure is not about a single field
+     */
+    public OutputFieldName getOutputFieldName() {
+        return this.outputFieldName;
+    }
+
+    /*
+        Offset of the offending field or list element in the validated string, -1 if there is none
+     */
+    public int getColumn() {
+        return this.column;
+    }
+
+    /*
+        Same message as the exception thrown for this failure, null if valid
+     */
+    public String getMessage() {
+        if(this.error == null) {
+            return null;
+        }
+        String formatted = this.message;
+        if(formatted == null) {
+            formatted = format();
+            this.message = formatted;
+        }
+        return formatted;
+    }
+
+    private String format() {
+        switch (this.error) {
+            case INVALID_RANGE:
+                return MessageFormat.format(this.error.getMessageTemplate(), this.outputFieldName.getName(),
+                        this.outputFieldName.getBegin(), this.outputFieldName.getEnd());
+            case INVALID_RANGE_START_END:
+                return MessageFormat.format(this.error.getMessageTemplate(), this.outputFieldName.getName(),
+                        (int) this.startPart, (int) this.endPart,
+                        this.outputFieldName.getBegin(), this.outputFieldName.getEnd());
+            default:
+                return this.error.getMessageTemplate();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "ValidationResult{valid}"
+                : "ValidationResult{" + this.error + ", " + this.outputFieldName + ", column " + this.column + "}";
+    }
+}
@@ -0,0 +1,123 @@
+package cronExpression.render;
+
+import cronExpression.enums.OutputFieldName;
+import cronExpression.parser.CronSchedule;
+import cronExpression.parser.QuartzSchedule;
+
+import java.io.IOException;
+
+/*
+    Default text output where field names take the first 14 columns followed by space separated values, one line per
+    field and a last line for command.
+    Padding is written directly instead of going through String.format.
+ */
+public class ColumnDescriptionRenderer implements DescriptionRenderer {
+    // Used for formatting output so that first 14 columns are taken by fieldName
+    public static final int NAME_COLUMN_WIDTH = 14;
+
+    private static final String COMMAND = "command";
+
+    // Schedule fields in the order of their occurrence in the expression
+    private static final OutputFieldName[] SCHEDULE_FIELDS = OutputFieldName.scheduleFields();
+
+    @Override
+    public void render(CronSchedule cronSchedule, String command, Appendable out) throws IOException {
+        renderSchedule(cronSchedule, out);
+        renderCommand(command, out);
+    }
+
+    /*
+        Lines of the five schedule fields without the command line
+     */
+    public void renderSchedule(CronSchedule cronSchedule, Appendable out) throws IOException {
+        for(OutputFieldName outputFieldName : SCHEDULE_FIELDS) {
+            appendName(outputFieldName.getName(), out);
+            RenderSupport.appendValues(out, outputFieldName, cronSchedule.getMask(outputFieldName), ' ');
+            out.append(System.lineSeparator());
+        }
+    }
+
+    /*
+        Lines of second, minute, hour, day of month, month, day of week and year of a Quartz schedule. Day of week is
+        written in Quartz numbering (1 for Sunday), day specials that depend on the month are written in their
+        canonical form after the plain values, for ex: L-2 or 6#3, and '?' as is.
+     */
+    public void renderQuartzSchedule(QuartzSchedule quartzSchedule, Appendable out) throws IOException {
+        appendLine(OutputFieldName.SECOND, quartzSchedule.getSeconds(), out);
+        appendLine(OutputFieldName.MINUTE, quartzSchedule.getMinutes(), out);
+        appendLine(OutputFieldName.HOUR, quartzSchedule.getHours(), out);
+
+        appendName(OutputFieldName.DAY_OF_MONTH.getName(), out);
+        if(quartzSchedule.isDayOfMonthUnspecified()) {
+            out.append('?');
+        } else {
+            RenderSupport.appendValues(out, quartzSchedule.getDaysOfMonth() & 0xFFFFFFFFL, ' ');
+            if(quartzSchedule.getLastDayOffset() == 0) {
+                out.append('L');
+            } else if(quartzSchedule.getLastDayOffset() > 0) {
+                out.append("L-");
+                RenderSupport.appendValue(out, quartzSchedule.getLastDayOffset());
+            }
+            if(quartzSchedule.isLastWeekday()) {
+                out.append("LW");
+            }
+            for(int remaining = quartzSchedule.getNearestWeekdays(); remaining != 0; remaining &= remaining - 1) {
+                RenderSupport.appendValue(out, Integer.numberOfTrailingZeros(remaining));
+                out.append('W');
+            }
+        }
+        out.append(System.lineSeparator());
+
+        appendLine(OutputFieldName.MONTH, quartzSchedule.getMonths(), out);
+
+        appendName(OutputFieldName.QUARTZ_DAY_OF_WEEK.getName(), out);
+        // Exactly one of the day fields is '?'
+        if(!quartzSchedule.isDayOfMonthUnspecified()) {
+            out.append('?');
+        } else {
+            int begin = OutputFieldName.QUARTZ_DAY_OF_WEEK.getBegin();
+            RenderSupport.appendValues(out, (quartzSchedule.getDaysOfWeek() & 0xFFFFFFFFL) << begin, ' ');
+            for(int remaining = quartzSchedule.getLastDaysOfWeek(); remaining != 0; remaining &= remaining - 1) {
+                RenderSupport.appendValue(out, Integer.numberOfTrailingZeros(remaining) + begin);
+                out.append('L');
+            }
+            for(long remaining = quartzSchedule.getNthDaysOfWeek(); remaining != 0; remaining &= remaining - 1) {
+                int bit = Long.numberOfTrailingZeros(remaining);
+                RenderSupport.appendValue(out, bit % 7 + begin);
+                out.append('#');
+                RenderSupport.appendValue(out, bit / 7 + 1);
+            }
+        }
+        out.append(System.lineSeparator());
+
+        appendName(OutputFieldName.YEAR.getName(), out);
+        boolean first = true;
+        for(int year = quartzSchedule.nextYear(QuartzSchedule.FIRST_YEAR); year >= 0;
+            year = quartzSchedule.nextYear(year + 1)) {
+            if(!first) {
+                out.append(' ');
+            }
+            RenderSupport.appendValue(out, year);
+            first = false;
+        }
+        out.append(System.lineSeparator());
+    }
+
+    public void renderCommand(String command, Appendable out) throws IOException {
+        appendName(COMMAND, out);
+        out.append(command).append(System.lineSeparator());
+    }
+
+    private static void appendLine(OutputFieldName outputFieldName, long mask, Appendable out) throws IOException {
+        appendName(outputFieldName.getName(), out);
+        RenderSupport.appendValues(out, outputFieldName, mask, ' ');
+        out.append(System.lineSeparator());
+    }
+
+    private static void appendName(String name, Appendable out) throws IOException {
+        out.append(name);
+        for(int i = name.length(); i < NAME_COLUMN_WIDTH; i++) {
+            out.append(' ');
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package cronExpression.render;
+
+import cronExpression.enums.OutputFieldName;
+import cronExpression.parser.CronSchedule;
+
+import java.io.IOException;
+
+/*
+    One CSV record (RFC 4180) per expression with columns minute, hour, day of month, month, day of week and command.
+    Values of a field are separated by space within their column, command is quoted when it contains a comma, quote
+    or line break.
+ */
+public class CsvDescriptionRenderer implements DescriptionRenderer {
+    private static final String LINE_END = "\r\n";
+
+    // Schedule fields in the order of their occurrence in the expression
+    private static final OutputFieldName[] SCHEDULE_FIELDS = OutputFieldName.scheduleFields();
+
+    /*
+        Header record naming the columns written by render
+     */
+    public void renderHeader(Appendable out) throws IOException {
+        for(OutputFieldName outputFieldName : SCHEDULE_FIELDS) {
+            out.append(outputFieldName.getName()).append(',');
+        }
+        out.append("command").append(LINE_END);
+    }
+
+    @Override
+    public void render(CronSchedule cronSchedule, String command, Appendable out) throws IOException {
+        for(OutputFieldName outputFieldName : SCHEDULE_FIELDS) {
+            RenderSupport.appendValues(out, outputFieldName, cronSchedule.getMask(outputFieldName), ' ');
+            out.append(',');
+        }
+        appendField(command, out);
+        out.append(LINE_END);
+    }
+
+    private static void appendField(String value, Appendable out) throws IOException {
+        boolean quoted = false;
+        for(int i = 0; i < value.length() && !quoted; i++) {
+            char character = value.charAt(i);
+            quoted = character == ',' || character == '"' || character == '\r' || character == '\n';
+        }
+        if(!quoted) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        for(int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if(character == '"') {
+                out.append('"');
+            }
+            out.append(character);
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,19 @@
+package cronExpression.render;
+
+import cronExpression.parser.CronSchedule;
+
+import java.io.IOException;
+
+/*
+    Writes the fields of a compiled schedule together with its command into a caller provided Appendable.
+    Implementations are stateless and can be shared between threads.
+ */
+public interface DescriptionRenderer {
+
+    /*
+        Input: 1) cronSchedule: compiled schedule fields
+               2) command: command of the expression, written as is
+               3) out: destination, a StringBuilder or a buffered Writer avoids intermediate strings
+     */
+    void render(CronSchedule cronSchedule, String command, Appendable out) throws IOException;
+}
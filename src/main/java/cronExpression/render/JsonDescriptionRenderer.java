@@ -0,0 +1,62 @@
+package cronExpression.render;
+
+import cronExpression.enums.OutputFieldName;
+import cronExpression.parser.CronSchedule;
+
+import java.io.IOException;
+
+/*
+    Single line JSON object with an array of values per field and command as string, for ex:
+    {"minute":[0,15,30,45],"hour":[0],"dayOfMonth":[1,15],"month":[1,2,...,12],"dayOfWeek":[1,2,3,4,5],"command":"/usr/bin/find"}
+ */
+public class JsonDescriptionRenderer implements DescriptionRenderer {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    // Schedule fields in the order of their occurrence in the expression
+    private static final OutputFieldName[] SCHEDULE_FIELDS = OutputFieldName.scheduleFields();
+
+    @Override
+    public void render(CronSchedule cronSchedule, String command, Appendable out) throws IOException {
+        out.append('{');
+        for(OutputFieldName outputFieldName : SCHEDULE_FIELDS) {
+            out.append('"').append(jsonName(outputFieldName)).append("\":[");
+            RenderSupport.appendValues(out, outputFieldName, cronSchedule.getMask(outputFieldName), ',');
+            out.append("],");
+        }
+        out.append("\"command\":");
+        appendString(command, out);
+        out.append('}');
+    }
+
+    /*
+        Field names in camel case since JSON consumers tend to map keys to identifiers
+     */
+    static String jsonName(OutputFieldName outputFieldName) {
+        switch (outputFieldName) {
+            case DAY_OF_MONTH:
+                return "dayOfMonth";
+            case DAY_OF_WEEK:
+                return "dayOfWeek";
+            default:
+                return outputFieldName.getName();
+        }
+    }
+
+    /*
+        Writes value as JSON string literal escaping quotes, backslashes and control characters
+     */
+    static void appendString(String value, Appendable out) throws IOException {
+        out.append('"');
+        for(int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if(character == '"' || character == '\\') {
+                out.append('\\').append(character);
+            } else if(character < ' ') {
+                out.append("\\u00").append(HEX_DIGITS[character >> 4]).append(HEX_DIGITS[character & 0xF]);
+            } else {
+                out.append(character);
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,47 @@
+package cronExpression.render;
+
+import cronExpression.enums.OutputFieldName;
+import cronExpression.parser.StepTable;
+
+import java.io.IOException;
+
+/*
+    Number formatting shared by renderers, values are written digit by digit so that no String is created per value
+ */
+final class RenderSupport {
+    private RenderSupport() {}
+
+    /*
+        Writes a non negative value in decimal
+     */
+    static void appendValue(Appendable out, int value) throws IOException {
+        if(value >= 10) {
+            appendValue(out, value / 10);
+        }
+        out.append((char) ('0' + value % 10));
+    }
+
+    /*
+        Writes every value present in mask in ascending order with separator between them
+     */
+    static void appendValues(Appendable out, long mask, char separator) throws IOException {
+        for(long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            appendValue(out, Long.numberOfTrailingZeros(remaining));
+            if((remaining & (remaining - 1)) != 0) {
+                out.append(separator);
+            }
+        }
+    }
+
+    /*
+        Same as appendValues, wildcard and step masks of outputFieldName are written from the shared StepTable
+     */
+    static void appendValues(Appendable out, OutputFieldName outputFieldName, long mask, char separator) throws IOException {
+        String values = StepTable.renderedValues(outputFieldName, mask, separator);
+        if(values != null) {
+            out.append(values);
+        } else {
+            appendValues(out, mask, separator);
+        }
+    }
+}
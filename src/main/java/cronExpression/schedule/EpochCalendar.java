@@ -0,0 +1,87 @@
+package cronExpression.schedule;
+
+/*
+    Allocation free conversions between epoch days and proleptic Gregorian calendar dates, used instead of java.time
+    on hot paths where a LocalDateTime per candidate would be too expensive.
+    Dates are packed into a single int as year << 9 | month << 5 | dayOfMonth so that they can be returned without
+    allocating.
+ */
+public final class EpochCalendar {
+    public static final long MILLIS_PER_MINUTE = 60_000L;
+    public static final int MINUTES_PER_DAY = 1440;
+
+    // 1970-01-01 was a Thursday, day of week is numbered as in cron where Sunday is 0
+    private static final int EPOCH_DAY_OF_WEEK = 4;
+
+    private EpochCalendar() {}
+
+    /*
+        Days since 1970-01-01 for the given date
+        Input: year, month 1-12, dayOfMonth 1-31
+     */
+    public static long daysFromCivil(int year, int month, int dayOfMonth) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + dayOfMonth - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+
+    /*
+        Date of the given epoch day packed as year << 9 | month << 5 | dayOfMonth
+     */
+    public static int civilFromDays(long epochDay) {
+        long z = epochDay + 719468;
+        long era = (z >= 0 ? z : z - 146096) / 146097;
+        int dayOfEra = (int) (z - era * 146097);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int dayOfMonth = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+        return pack(year, month, dayOfMonth);
+    }
+
+    public static int pack(int year, int month, int dayOfMonth) {
+        return (year << 9) | (month << 5) | dayOfMonth;
+    }
+
+    public static int year(int packedDate) {
+        return packedDate >> 9;
+    }
+
+    public static int month(int packedDate) {
+        return (packedDate >> 5) & 0xF;
+    }
+
+    public static int dayOfMonth(int packedDate) {
+        return packedDate & 0x1F;
+    }
+
+    /*
+        Day of week of the given epoch day, 0 is Sunday and 6 is Saturday
+     */
+    public static int dayOfWeek(long epochDay) {
+        return (int) Math.floorMod(epochDay + EPOCH_DAY_OF_WEEK, 7L);
+    }
+
+    public static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    public static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+}
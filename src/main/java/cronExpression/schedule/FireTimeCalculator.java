@@ -0,0 +1,284 @@
+package cronExpression.schedule;
+
+import cronExpression.enums.OutputFieldName;
+import cronExpression.metrics.Counter;
+import cronExpression.metrics.Metrics;
+import cronExpression.parser.CronSchedule;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static cronExpression.schedule.EpochCalendar.MILLIS_PER_MINUTE;
+import static cronExpression.schedule.EpochCalendar.MINUTES_PER_DAY;
+
+/*
+    Computes next and previous fire times of a CronSchedule.
+    Instead of stepping minute by minute the search jumps field by field (month, day, hour, minute) to the next set bit
+    of the corresponding bitmask, so a call costs a handful of bit operations per field and allocates nothing.
+    Times are epoch milliseconds and the schedule is evaluated in UTC.
+ */
+public final class FireTimeCalculator {
+    // Returned when the schedule never fires, for ex: 30th of February
+    public static final long NO_FIRE_TIME = Long.MIN_VALUE;
+
+    // The Gregorian calendar repeats itself every 400 years, a schedule without a fire time in that span never fires
+    private static final int MAX_SEARCH_YEARS = 400;
+
+    // Longest possible length of each month, used to detect schedules such as 30th of February upfront
+    static final int[] MAX_LENGTH_OF_MONTH = {0, 31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    // WEEKLY_DAYS[first] has bits set for days first, first + 7, first + 14 ... of a month
+    static final int[] WEEKLY_DAYS = new int[8];
+
+    static {
+        for(int first = 1; first <= 7; first++) {
+            for(int day = first; day <= 31; day += 7) {
+                WEEKLY_DAYS[first] |= 1 << day;
+            }
+        }
+    }
+
+    private FireTimeCalculator() {}
+
+    /*
+        Earliest fire time strictly after epochMillis or NO_FIRE_TIME if the schedule never fires
+     */
+    public static long nextFireTime(CronSchedule cronSchedule, long epochMillis) {
+        Metrics.registry().increment(Counter.FIRE_TIME_EVALUATIONS);
+        if(!canFire(cronSchedule)) {
+            return NO_FIRE_TIME;
+        }
+        long minuteIndex = Math.floorDiv(epochMillis, MILLIS_PER_MINUTE) + 1;
+        long epochDay = Math.floorDiv(minuteIndex, (long) MINUTES_PER_DAY);
+        int minuteOfDay = (int) Math.floorMod(minuteIndex, (long) MINUTES_PER_DAY);
+        int date = EpochCalendar.civilFromDays(epochDay);
+
+        int year = EpochCalendar.year(date);
+        int month = EpochCalendar.month(date);
+        int day = EpochCalendar.dayOfMonth(date);
+        int hour = minuteOfDay / 60;
+        int minute = minuteOfDay % 60;
+        int lastYear = year + MAX_SEARCH_YEARS;
+
+        while(year <= lastYear) {
+            int nextMonth = nextBit(cronSchedule.getMonths(), month);
+            if(nextMonth < 0) {
+                year++;
+                month = 1;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                continue;
+            }
+            if(nextMonth != month) {
+                month = nextMonth;
+                day = 1;
+                hour = 0;
+                minute = 0;
+            }
+
+            int nextDay = nextBit(daysOfMonth(cronSchedule, year, month), day);
+            if(nextDay < 0) {
+                month++;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                continue;
+            }
+            if(nextDay != day) {
+                day = nextDay;
+                hour = 0;
+                minute = 0;
+            }
+
+            int nextHour = nextBit(cronSchedule.getHours(), hour);
+            if(nextHour < 0) {
+                day++;
+                hour = 0;
+                minute = 0;
+                continue;
+            }
+            if(nextHour != hour) {
+                hour = nextHour;
+                minute = 0;
+            }
+
+            int nextMinute = nextBit(cronSchedule.getMinutes(), minute);
+            if(nextMinute < 0) {
+                hour++;
+                minute = 0;
+                continue;
+            }
+            return toEpochMillis(year, month, day, hour, nextMinute);
+        }
+        return NO_FIRE_TIME;
+    }
+
+    /*
+        Latest fire time strictly before epochMillis or NO_FIRE_TIME if the schedule never fires
+     */
+    public static long previousFireTime(CronSchedule cronSchedule, long epochMillis) {
+        Metrics.registry().increment(Counter.FIRE_TIME_EVALUATIONS);
+        if(!canFire(cronSchedule)) {
+            return NO_FIRE_TIME;
+        }
+        long minuteIndex = Math.floorDiv(epochMillis - 1, MILLIS_PER_MINUTE);
+        long epochDay = Math.floorDiv(minuteIndex, (long) MINUTES_PER_DAY);
+        int minuteOfDay = (int) Math.floorMod(minuteIndex, (long) MINUTES_PER_DAY);
+        int date = EpochCalendar.civilFromDays(epochDay);
+
+        int year = EpochCalendar.year(date);
+        int month = EpochCalendar.month(date);
+        int day = EpochCalendar.dayOfMonth(date);
+        int hour = minuteOfDay / 60;
+        int minute = minuteOfDay % 60;
+        int lastYear = year - MAX_SEARCH_YEARS;
+
+        while(year >= lastYear) {
+            int previousMonth = previousBit(cronSchedule.getMonths(), month);
+            if(previousMonth < 0) {
+                year--;
+                month = 12;
+                day = 31;
+                hour = 23;
+                minute = 59;
+                continue;
+            }
+            if(previousMonth != month) {
+                month = previousMonth;
+                day = 31;
+                hour = 23;
+                minute = 59;
+            }
+
+            int previousDay = previousBit(daysOfMonth(cronSchedule, year, month), day);
+            if(previousDay < 0) {
+                month--;
+                day = 31;
+                hour = 23;
+                minute = 59;
+                continue;
+            }
+            if(previousDay != day) {
+                day = previousDay;
+                hour = 23;
+                minute = 59;
+            }
+
+            int previousHour = previousBit(cronSchedule.getHours(), hour);
+            if(previousHour < 0) {
+                day--;
+                hour = 23;
+                minute = 59;
+                continue;
+            }
+            if(previousHour != hour) {
+                hour = previousHour;
+                minute = 59;
+            }
+
+            int previousMinute = previousBit(cronSchedule.getMinutes(), minute);
+            if(previousMinute < 0) {
+                hour--;
+                minute = 59;
+                continue;
+            }
+            return toEpochMillis(year, month, day, hour, previousMinute);
+        }
+        return NO_FIRE_TIME;
+    }
+
+    /*
+        Same as nextFireTime(CronSchedule, long) with the date time taken as UTC, returns null if the schedule never fires
+     */
+    public static LocalDateTime nextFireTime(CronSchedule cronSchedule, LocalDateTime after) {
+        return toLocalDateTime(nextFireTime(cronSchedule, after.toInstant(ZoneOffset.UTC).toEpochMilli()));
+    }
+
+    /*
+        Same as previousFireTime(CronSchedule, long) with the date time taken as UTC, returns null if the schedule never
+        fires
+     */
+    public static LocalDateTime previousFireTime(CronSchedule cronSchedule, LocalDateTime before) {
+        return toLocalDateTime(previousFireTime(cronSchedule, before.toInstant(ZoneOffset.UTC).toEpochMilli()));
+    }
+
+    /*
+        Bitmask of the days of the given month on which the schedule fires.
+        Day of week values are spread over the month by OR-ing precomputed weekly patterns and combined with day of
+        month as cron does: both have to match if either field is '*', otherwise any of them is enough.
+     */
+    static int daysOfMonth(CronSchedule cronSchedule, int year, int month) {
+        if(month > 12) {
+            return 0;
+        }
+        int firstDayOfWeek = EpochCalendar.dayOfWeek(EpochCalendar.daysFromCivil(year, month, 1));
+        int weekdays = 0;
+        for(int remaining = cronSchedule.getDaysOfWeek(); remaining != 0; remaining &= remaining - 1) {
+            int dayOfWeek = Integer.numberOfTrailingZeros(remaining);
+            weekdays |= WEEKLY_DAYS[1 + Math.floorMod(dayOfWeek - firstDayOfWeek, 7)];
+        }
+        int days = cronSchedule.isDayOfMonthAsterisk() || cronSchedule.isDayOfWeekAsterisk()
+                ? cronSchedule.getDaysOfMonth() & weekdays
+                : cronSchedule.getDaysOfMonth() | weekdays;
+        return days & (int) CronSchedule.rangeMask(1, EpochCalendar.lengthOfMonth(year, month));
+    }
+
+    /*
+        False for schedules that can never fire since the only days of month allowed do not exist in any allowed month
+     */
+    private static boolean canFire(CronSchedule cronSchedule) {
+        if(!cronSchedule.isDayOfMonthAsterisk() && !cronSchedule.isDayOfWeekAsterisk()) {
+            return true;
+        }
+        for(int remaining = cronSchedule.getMonths(); remaining != 0; remaining &= remaining - 1) {
+            int maxLength = MAX_LENGTH_OF_MONTH[Integer.numberOfTrailingZeros(remaining)];
+            if((cronSchedule.getDaysOfMonth() & CronSchedule.rangeMask(OutputFieldName.DAY_OF_MONTH.getBegin(), maxLength)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+        Smallest value >= from present in mask or -1
+     */
+    static int nextBit(long mask, int from) {
+        if(from >= 64) {
+            return -1;
+        }
+        long remaining = mask & (-1L << from);
+        return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    /*
+        Largest value <= from present in mask or -1
+     */
+    static int previousBit(long mask, int from) {
+        if(from < 0) {
+            return -1;
+        }
+        long remaining = from >= 63 ? mask : mask & ((2L << from) - 1);
+        return remaining == 0 ? -1 : 63 - Long.numberOfLeadingZeros(remaining);
+    }
+
+    private static int nextBit(int mask, int from) {
+        return nextBit(mask & 0xFFFFFFFFL, from);
+    }
+
+    private static int previousBit(int mask, int from) {
+        return previousBit(mask & 0xFFFFFFFFL, from);
+    }
+
+    private static long toEpochMillis(int year, int month, int day, int hour, int minute) {
+        long epochDay = EpochCalendar.daysFromCivil(year, month, day);
+        return (epochDay * MINUTES_PER_DAY + hour * 60 + minute) * MILLIS_PER_MINUTE;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        if(epochMillis == NO_FIRE_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000L), 0, ZoneOffset.UTC);
+    }
+}
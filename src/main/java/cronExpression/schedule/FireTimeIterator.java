@@ -0,0 +1,68 @@
+package cronExpression.schedule;
+
+import cronExpression.parser.CronSchedule;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/*
+    Lazily walks the fire times (epoch milliseconds, UTC) of a schedule within [from, to) in ascending order.
+    Each fire time is computed by FireTimeCalculator only when asked for, so nothing is materialized up front and
+    callers can limit, filter or merge the sequence freely.
+ */
+public class FireTimeIterator implements PrimitiveIterator.OfLong {
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT
+            | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+    private final CronSchedule cronSchedule;
+    private final long to;
+    private long next;
+
+    /*
+        Input: 1) cronSchedule: compiled schedule
+               2) from: first instant considered (inclusive)
+               3) to: end of the window (exclusive), Long.MAX_VALUE for an unbounded sequence
+     */
+    public FireTimeIterator(CronSchedule cronSchedule, long from, long to) {
+        this.cronSchedule = cronSchedule;
+        this.to = to;
+        this.next = from == Long.MIN_VALUE
+                ? FireTimeCalculator.NO_FIRE_TIME
+                : FireTimeCalculator.nextFireTime(cronSchedule, from - 1);
+    }
+
+    /*
+        Fire times within [from, to) as a sequential, sorted LongStream
+     */
+    public static LongStream stream(CronSchedule cronSchedule, long from, long to) {
+        Spliterator.OfLong spliterator = Spliterators.spliteratorUnknownSize(
+                new FireTimeIterator(cronSchedule, from, to), CHARACTERISTICS);
+        return StreamSupport.longStream(spliterator, false);
+    }
+
+    /*
+        All fire times from the given instant (inclusive) onwards, to be bounded with limit or takeWhile
+     */
+    public static LongStream stream(CronSchedule cronSchedule, long from) {
+        return stream(cronSchedule, from, Long.MAX_VALUE);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.next != FireTimeCalculator.NO_FIRE_TIME && this.next < this.to;
+    }
+
+    @Override
+    public long nextLong() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        long current = this.next;
+        this.next = FireTimeCalculator.nextFireTime(this.cronSchedule, current);
+        return current;
+    }
+}
@@ -0,0 +1,163 @@
+package cronExpression.schedule;
+
+import cronExpression.parser.CronSchedule;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/*
+    Single ordered sequence of (jobId, fireTime) events across many schedules.
+    A binary min-heap holds the next fire time of every job; taking an event pops the earliest job and advances only
+    that job, so the next N events out of J jobs cost O(N log J). The heap lives in parallel primitive arrays, events
+    are read through getJobId and getFireTime after next() instead of being allocated.
+    Events with equal fire time come in ascending order of job id. Not thread safe.
+ */
+public class FireTimeline {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] fireTimes = new long[INITIAL_CAPACITY];
+    private int[] jobIds = new int[INITIAL_CAPACITY];
+    private CronSchedule[] schedules = new CronSchedule[INITIAL_CAPACITY];
+    private int size;
+
+    // Earliest fire time still to come, jobs added later start from here
+    private long position;
+
+    private int currentJobId;
+    private long currentFireTime = FireTimeCalculator.NO_FIRE_TIME;
+
+    /*
+        Input: from: epoch milliseconds (UTC) of the first instant considered (inclusive)
+     */
+    public FireTimeline(long from) {
+        this.position = from;
+    }
+
+    /*
+        Adds a job whose first event is its first fire time at or after the current position of the timeline.
+        Schedules which never fire are ignored.
+     */
+    public void add(int jobId, CronSchedule cronSchedule) {
+        long fireTime = this.position == Long.MIN_VALUE
+                ? FireTimeCalculator.NO_FIRE_TIME
+                : FireTimeCalculator.nextFireTime(cronSchedule, this.position - 1);
+        if(fireTime == FireTimeCalculator.NO_FIRE_TIME) {
+            return;
+        }
+        if(this.size == this.fireTimes.length) {
+            int capacity = this.size * 2;
+            this.fireTimes = Arrays.copyOf(this.fireTimes, capacity);
+            this.jobIds = Arrays.copyOf(this.jobIds, capacity);
+            this.schedules = Arrays.copyOf(this.schedules, capacity);
+        }
+        int index = this.size++;
+        set(index, fireTime, jobId, cronSchedule);
+        siftUp(index);
+    }
+
+    /*
+        Moves to the earliest pending event, returns false if there is none
+     */
+    public boolean next() {
+        if(this.size == 0) {
+            return false;
+        }
+        this.currentJobId = this.jobIds[0];
+        this.currentFireTime = this.fireTimes[0];
+        this.position = this.currentFireTime;
+
+        long following = FireTimeCalculator.nextFireTime(this.schedules[0], this.currentFireTime);
+        if(following == FireTimeCalculator.NO_FIRE_TIME) {
+            int last = --this.size;
+            set(0, this.fireTimes[last], this.jobIds[last], this.schedules[last]);
+            this.schedules[last] = null;
+        } else {
+            this.fireTimes[0] = following;
+        }
+        siftDown(0);
+        return true;
+    }
+
+    /*
+        Job id of the event reached by the last call to next()
+     */
+    public int getJobId() {
+        if(this.currentFireTime == FireTimeCalculator.NO_FIRE_TIME) {
+            throw new NoSuchElementException();
+        }
+        return this.currentJobId;
+    }
+
+    /*
+        Fire time of the event reached by the last call to next()
+     */
+    public long getFireTime() {
+        if(this.currentFireTime == FireTimeCalculator.NO_FIRE_TIME) {
+            throw new NoSuchElementException();
+        }
+        return this.currentFireTime;
+    }
+
+    /*
+        Fire time of the next pending event or NO_FIRE_TIME if there is none
+     */
+    public long peekFireTime() {
+        return this.size == 0 ? FireTimeCalculator.NO_FIRE_TIME : this.fireTimes[0];
+    }
+
+    /*
+        Number of jobs which still have events to come
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private void set(int index, long fireTime, int jobId, CronSchedule cronSchedule) {
+        this.fireTimes[index] = fireTime;
+        this.jobIds[index] = jobId;
+        this.schedules[index] = cronSchedule;
+    }
+
+    private boolean before(int first, int second) {
+        return this.fireTimes[first] < this.fireTimes[second]
+                || (this.fireTimes[first] == this.fireTimes[second] && this.jobIds[first] < this.jobIds[second]);
+    }
+
+    private void swap(int first, int second) {
+        long fireTime = this.fireTimes[first];
+        int jobId = this.jobIds[first];
+        CronSchedule cronSchedule = this.schedules[first];
+        set(first, this.fireTimes[second], this.jobIds[second], this.schedules[second]);
+        set(second, fireTime, jobId, cronSchedule);
+    }
+
+    private void siftUp(int index) {
+        while(index > 0) {
+            int parent = (index - 1) >>> 1;
+            if(!before(index, parent)) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while(true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if(left < this.size && before(left, smallest)) {
+                smallest = left;
+            }
+            if(right < this.size && before(right, smallest)) {
+                smallest = right;
+            }
+            if(smallest == index) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package cronExpression.schedule;
+
+import java.util.Arrays;
+
+/*
+    Growable int array receiving the indices matched by ScheduleColumns, meant to be cleared and reused across calls so
+    that a scan allocates nothing once the buffer has reached its working size
+ */
+public final class IndexBuffer {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    int[] indices;
+    int size;
+
+    public IndexBuffer() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public IndexBuffer(int capacity) {
+        this.indices = new int[Math.max(capacity, 1)];
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int get(int position) {
+        if(position < 0 || position >= this.size) {
+            throw new IndexOutOfBoundsException("Position " + position + " of index buffer of size " + this.size);
+        }
+        return this.indices[position];
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(this.indices, this.size);
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    /*
+        Makes room for additional more indices after size
+     */
+    void ensureRemaining(int additional) {
+        if(this.indices.length - this.size < additional) {
+            this.indices = Arrays.copyOf(this.indices, Math.max(this.indices.length * 2, this.size + additional));
+        }
+    }
+}
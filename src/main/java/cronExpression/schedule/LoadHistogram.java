@@ -0,0 +1,242 @@
+package cronExpression.schedule;
+
+import cronExpression.enums.OutputFieldName;
+import cronExpression.parser.CronExpressionDescription;
+import cronExpression.parser.CronSchedule;
+import cronExpression.parser.ValidationResult;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static cronExpression.schedule.EpochCalendar.MILLIS_PER_MINUTE;
+import static cronExpression.schedule.EpochCalendar.MINUTES_PER_DAY;
+
+/*
+    Counts of fires per minute across a set of schedules, used to find minutes where many jobs start at once.
+    Schedules are not simulated one by one: they are grouped by their day fields, and within a group by minute mask
+    with a count per hour, so adding a schedule costs at most one increment per hour. Histograms are built from the
+    groups, every distinct minute mask is spread over the hours once whatever the number of schedules sharing it.
+    Histograms add one precomputed per minute profile per group and day. Not thread safe, each thread should fill its
+    own histogram.
+ */
+public class LoadHistogram {
+    private static final int MINUTES_PER_HOUR = OutputFieldName.MINUTE.getEnd() - OutputFieldName.MINUTE.getBegin() + 1;
+    private static final int HOURS_PER_DAY = OutputFieldName.HOUR.getEnd() - OutputFieldName.HOUR.getBegin() + 1;
+    private static final int DAYS_PER_WEEK = OutputFieldName.DAY_OF_WEEK.getEnd()
+            - OutputFieldName.DAY_OF_WEEK.getBegin() + 1;
+
+    private final Map<DayKey, DayGroup> groups = new HashMap<>();
+    private long size;
+
+    public void add(CronSchedule cronSchedule) {
+        DayKey dayKey = new DayKey(cronSchedule);
+        DayGroup dayGroup = this.groups.get(dayKey);
+        if(dayGroup == null) {
+            dayGroup = new DayGroup(ScheduleAlgebra.dayMatrix(cronSchedule));
+            this.groups.put(dayKey, dayGroup);
+        }
+        int[] hourCounts = dayGroup.hourCounts.get(cronSchedule.getMinutes());
+        if(hourCounts == null) {
+            hourCounts = new int[HOURS_PER_DAY];
+            dayGroup.hourCounts.put(cronSchedule.getMinutes(), hourCounts);
+        }
+        for(int remaining = cronSchedule.getHours(); remaining != 0; remaining &= remaining - 1) {
+            hourCounts[Integer.numberOfTrailingZeros(remaining)]++;
+        }
+        dayGroup.profile = null;
+        this.size++;
+    }
+
+    /*
+        Adds the schedule of every valid expression, returns the number of invalid expressions skipped
+     */
+    public long addAll(Iterable<String> expressions) {
+        long invalid = 0;
+        for(String expression : expressions) {
+            ValidationResult validationResult = CronExpressionDescription.validate(expression);
+            if(validationResult.isValid()) {
+                add(validationResult.getSchedule());
+            } else {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    /*
+        Number of schedules added
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /*
+        histogram[hour * 60 + minute] is the number of schedules firing at that time of day on days they fire at all
+     */
+    public int[] byMinuteOfDay() {
+        int[] histogram = new int[MINUTES_PER_DAY];
+        for(DayGroup dayGroup : this.groups.values()) {
+            // Schedules such as 0 0 30 2 * never fire and add no load
+            if(dayGroup.firesAtAll()) {
+                dayGroup.addProfile(histogram, 0);
+            }
+        }
+        return histogram;
+    }
+
+    /*
+        histogram[dayOfWeek * 1440 + minuteOfDay] (0 for Sunday) is the number of schedules that fire at that minute
+        of that day of week on at least one date, an upper bound of the load of any given week
+     */
+    public int[] byMinuteOfWeek() {
+        int[] histogram = new int[DAYS_PER_WEEK * MINUTES_PER_DAY];
+        for(DayGroup dayGroup : this.groups.values()) {
+            for(int dayOfWeek = 0; dayOfWeek < DAYS_PER_WEEK; dayOfWeek++) {
+                if(dayGroup.firesOn(dayOfWeek)) {
+                    dayGroup.addProfile(histogram, dayOfWeek * MINUTES_PER_DAY);
+                }
+            }
+        }
+        return histogram;
+    }
+
+    /*
+        histogram[i] is the number of schedules firing in the i-th minute from the first whole minute at or after
+        fromMillis up to toMillis (exclusive), evaluated in UTC
+     */
+    public int[] fireCounts(long fromMillis, long toMillis) {
+        long firstMinute = Math.floorDiv(fromMillis + MILLIS_PER_MINUTE - 1, MILLIS_PER_MINUTE);
+        long endMinute = Math.floorDiv(toMillis - 1, MILLIS_PER_MINUTE) + 1;
+        if(endMinute <= firstMinute) {
+            return new int[0];
+        }
+        if(endMinute - firstMinute > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Window of " + (endMinute - firstMinute) + " minutes is too long");
+        }
+        int[] histogram = new int[(int) (endMinute - firstMinute)];
+        int[] day = new int[MINUTES_PER_DAY];
+        for(long epochDay = Math.floorDiv(firstMinute, (long) MINUTES_PER_DAY);
+            epochDay * MINUTES_PER_DAY < endMinute; epochDay++) {
+            int date = EpochCalendar.civilFromDays(epochDay);
+            int month = EpochCalendar.month(date);
+            int dayOfWeek = EpochCalendar.dayOfWeek(epochDay);
+            int dayOfMonth = EpochCalendar.dayOfMonth(date);
+            Arrays.fill(day, 0);
+            for(DayGroup dayGroup : this.groups.values()) {
+                if(dayGroup.firesOn(month, dayOfWeek, dayOfMonth)) {
+                    dayGroup.addProfile(day, 0);
+                }
+            }
+            long dayStart = epochDay * MINUTES_PER_DAY;
+            long from = Math.max(firstMinute, dayStart);
+            long to = Math.min(endMinute, dayStart + MINUTES_PER_DAY);
+            System.arraycopy(day, (int) (from - dayStart), histogram, (int) (from - firstMinute), (int) (to - from));
+        }
+        return histogram;
+    }
+
+    /*
+        Schedules with equal day fields fire on the same days, whatever their minutes and hours
+     */
+    private static final class DayKey {
+        private final int daysOfMonth;
+        private final int months;
+        private final int daysOfWeek;
+        private final boolean bothMatch;
+
+        private DayKey(CronSchedule cronSchedule) {
+            this.daysOfMonth = cronSchedule.getDaysOfMonth();
+            this.months = cronSchedule.getMonths();
+            this.daysOfWeek = cronSchedule.getDaysOfWeek();
+            this.bothMatch = cronSchedule.isDayOfMonthAsterisk() || cronSchedule.isDayOfWeekAsterisk();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if(!(other instanceof DayKey)) {
+                return false;
+            }
+            DayKey that = (DayKey) other;
+            return this.daysOfMonth == that.daysOfMonth && this.months == that.months
+                    && this.daysOfWeek == that.daysOfWeek && this.bothMatch == that.bothMatch;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = this.daysOfMonth;
+            result = 31 * result + this.months;
+            result = 31 * result + this.daysOfWeek;
+            return 31 * result + (this.bothMatch ? 1 : 0);
+        }
+    }
+
+    /*
+        Schedules sharing day fields: the day matrix of ScheduleAlgebra and schedules per minute mask counted per hour
+     */
+    private static final class DayGroup {
+        private final int[] days;
+        private final Map<Long, int[]> hourCounts = new HashMap<>();
+
+        // Fires of the group per minute of day, built on first use after a schedule was added
+        private int[] profile;
+
+        private DayGroup(int[] days) {
+            this.days = days;
+        }
+
+        private boolean firesOn(int month, int dayOfWeek, int dayOfMonth) {
+            return (this.days[month * DAYS_PER_WEEK + dayOfWeek] & (1 << dayOfMonth)) != 0;
+        }
+
+        private boolean firesAtAll() {
+            for(int days : this.days) {
+                if(days != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean firesOn(int dayOfWeek) {
+            for(int month = 1; month <= 12; month++) {
+                if(this.days[month * DAYS_PER_WEEK + dayOfWeek] != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /*
+            Adds the fires of the group per minute of day to histogram starting at offset
+         */
+        private void addProfile(int[] histogram, int offset) {
+            int[] minuteCounts = profile();
+            for(int minuteOfDay = 0; minuteOfDay < MINUTES_PER_DAY; minuteOfDay++) {
+                histogram[offset + minuteOfDay] += minuteCounts[minuteOfDay];
+            }
+        }
+
+        private int[] profile() {
+            if(this.profile != null) {
+                return this.profile;
+            }
+            int[] minuteCounts = new int[MINUTES_PER_DAY];
+            for(Map.Entry<Long, int[]> entry : this.hourCounts.entrySet()) {
+                long minutes = entry.getKey();
+                int[] counts = entry.getValue();
+                for(int hour = 0; hour < HOURS_PER_DAY; hour++) {
+                    if(counts[hour] == 0) {
+                        continue;
+                    }
+                    int hourStart = hour * MINUTES_PER_HOUR;
+                    for(long remaining = minutes; remaining != 0; remaining &= remaining - 1) {
+                        minuteCounts[hourStart + Long.numberOfTrailingZeros(remaining)] += counts[hour];
+                    }
+                }
+            }
+            this.profile = minuteCounts;
+            return minuteCounts;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package cronExpression.schedule;
+
+import cronExpression.metrics.Counter;
+import cronExpression.metrics.Metrics;
+import cronExpression.parser.CronSchedule;
+import cronExpression.parser.QuartzSchedule;
+
+import static cronExpression.schedule.FireTimeCalculator.NO_FIRE_TIME;
+import static cronExpression.schedule.FireTimeCalculator.WEEKLY_DAYS;
+import static cronExpression.schedule.FireTimeCalculator.nextBit;
+import static cronExpression.schedule.FireTimeCalculator.previousBit;
+
+/*
+    Computes next and previous fire times of a QuartzSchedule with second resolution.
+    Same field by field search as FireTimeCalculator with year and second added, the days of a month including L, W
+    and # are resolved into a bitmask once per visited month. Times are epoch milliseconds evaluated in UTC, and
+    NO_FIRE_TIME is returned when there is no fire time within the years supported by Quartz.
+ */
+public final class QuartzFireTimeCalculator {
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    private static final int SATURDAY = 6;
+    private static final int SUNDAY = 0;
+
+    private QuartzFireTimeCalculator() {}
+
+    /*
+        Earliest fire time strictly after epochMillis or NO_FIRE_TIME if there is none
+     */
+    public static long nextFireTime(QuartzSchedule quartzSchedule, long epochMillis) {
+        Metrics.registry().increment(Counter.FIRE_TIME_EVALUATIONS);
+        long secondIndex = Math.floorDiv(epochMillis, MILLIS_PER_SECOND) + 1;
+        long epochDay = Math.floorDiv(secondIndex, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(secondIndex, SECONDS_PER_DAY);
+        int date = EpochCalendar.civilFromDays(epochDay);
+
+        int year = EpochCalendar.year(date);
+        int month = EpochCalendar.month(date);
+        int day = EpochCalendar.dayOfMonth(date);
+        int hour = secondOfDay / 3600;
+        int minute = secondOfDay / 60 % 60;
+        int second = secondOfDay % 60;
+
+        while(true) {
+            int nextYear = quartzSchedule.nextYear(year);
+            if(nextYear < 0) {
+                return NO_FIRE_TIME;
+            }
+            if(nextYear != year) {
+                year = nextYear;
+                month = 1;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                second = 0;
+            }
+
+            int nextMonth = nextBit(quartzSchedule.getMonths() & 0xFFFFFFFFL, month);
+            if(nextMonth < 0) {
+                year++;
+                month = 1;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                second = 0;
+                continue;
+            }
+            if(nextMonth != month) {
+                month = nextMonth;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                second = 0;
+            }
+
+            int nextDay = nextBit(daysOfMonth(quartzSchedule, year, month) & 0xFFFFFFFFL, day);
+            if(nextDay < 0) {
+                month++;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                second = 0;
+                continue;
+            }
+            if(nextDay != day) {
+                day = nextDay;
+                hour = 0;
+                minute = 0;
+                second = 0;
+            }
+
+            int nextHour = nextBit(quartzSchedule.getHours() & 0xFFFFFFFFL, hour);
+            if(nextHour < 0) {
+                day++;
+                hour = 0;
+                minute = 0;
+                second = 0;
+                continue;
+            }
+            if(nextHour != hour) {
+                hour = nextHour;
+                minute = 0;
+                second = 0;
+            }
+
+            int nextMinute = nextBit(quartzSchedule.getMinutes(), minute);
+            if(nextMinute < 0) {
+                hour++;
+                minute = 0;
+                second = 0;
+                continue;
+            }
+            if(nextMinute != minute) {
+                minute = nextMinute;
+                second = 0;
+            }
+
+            int nextSecond = nextBit(quartzSchedule.getSeconds(), second);
+            if(nextSecond < 0) {
+                minute++;
+                second = 0;
+                continue;
+            }
+            return toEpochMillis(year, month, day, hour, minute, nextSecond);
+        }
+    }
+
+    /*
+        Latest fire time strictly before epochMillis or NO_FIRE_TIME if there is none
+     */
+    public static long previousFireTime(QuartzSchedule quartzSchedule, long epochMillis) {
+        Metrics.registry().increment(Counter.FIRE_TIME_EVALUATIONS);
+        long secondIndex = Math.floorDiv(epochMillis - 1, MILLIS_PER_SECOND);
+        long epochDay = Math.floorDiv(secondIndex, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(secondIndex, SECONDS_PER_DAY);
+        int date = EpochCalendar.civilFromDays(epochDay);
+
+        int year = EpochCalendar.year(date);
+        int month = EpochCalendar.month(date);
+        int day = EpochCalendar.dayOfMonth(date);
+        int hour = secondOfDay / 3600;
+        int minute = secondOfDay / 60 % 60;
+        int second = secondOfDay % 60;
+
+        while(true) {
+            int previousYear = quartzSchedule.previousYear(year);
+            if(previousYear < 0) {
+                return NO_FIRE_TIME;
+            }
+            if(previousYear != year) {
+                year = previousYear;
+                month = 12;
+                day = 31;
+                hour = 23;
+                minute = 59;
+                second = 59;
+            }
+
+            int previousMonth = previousBit(quartzSchedule.getMonths() & 0xFFFFFFFFL, month);
+            if(previousMonth < 0) {
+                year--;
+                month = 12;
+                day = 31;
+                hour = 23;
+                minute = 59;
+                second = 59;
+                continue;
+            }
+            if(previousMonth != month) {
+                month = previousMonth;
+                day = 31;
+                hour = 23;
+                minute = 59;
+                second = 59;
+            }
+
+            int previousDay = previousBit(daysOfMonth(quartzSchedule, year, month) & 0xFFFFFFFFL, day);
+            if(previousDay < 0) {
+                month--;
+                day = 31;
+                hour = 23;
+                minute = 59;
+                second = 59;
+                continue;
+            }
+            if(previousDay != day) {
+                day = previousDay;
+                hour = 23;
+                minute = 59;
+                second = 59;
+            }
+
+            int previousHour = previousBit(quartzSchedule.getHours() & 0xFFFFFFFFL, hour);
+            if(previousHour < 0) {
+                day--;
+                hour = 23;
+                minute = 59;
+                second = 59;
+                continue;
+            }
+            if(previousHour != hour) {
+                hour = previousHour;
+                minute = 59;
+                second = 59;
+            }
+
+            int previousMinute = previousBit(quartzSchedule.getMinutes(), minute);
+            if(previousMinute < 0) {
+                hour--;
+                minute = 59;
+                second = 59;
+                continue;
+            }
+            if(previousMinute != minute) {
+                minute = previousMinute;
+                second = 59;
+            }
+
+            int previousSecond = previousBit(quartzSchedule.getSeconds(), second);
+            if(previousSecond < 0) {
+                minute--;
+                second = 59;
+                continue;
+            }
+            return toEpochMillis(year, month, day, hour, minute, previousSecond);
+        }
+    }
+
+    /*
+        Bitmask of the days of the given month on which the schedule fires, only the day field that is not '?' counts
+     */
+    static int daysOfMonth(QuartzSchedule quartzSchedule, int year, int month) {
+        if(month < 1 || month > 12) {
+            return 0;
+        }
+        int length = EpochCalendar.lengthOfMonth(year, month);
+        int firstDayOfWeek = EpochCalendar.dayOfWeek(EpochCalendar.daysFromCivil(year, month, 1));
+        int days = 0;
+        if(!quartzSchedule.isDayOfMonthUnspecified()) {
+            days = quartzSchedule.getDaysOfMonth();
+            int lastDay = length - quartzSchedule.getLastDayOffset();
+            if(quartzSchedule.getLastDayOffset() >= 0 && lastDay >= 1) {
+                days |= 1 << lastDay;
+            }
+            if(quartzSchedule.isLastWeekday()) {
+                days |= 1 << nearestWeekday(length, length, firstDayOfWeek);
+            }
+            for(int remaining = quartzSchedule.getNearestWeekdays(); remaining != 0; remaining &= remaining - 1) {
+                int day = Integer.numberOfTrailingZeros(remaining);
+                if(day <= length) {
+                    days |= 1 << nearestWeekday(day, length, firstDayOfWeek);
+                }
+            }
+        } else {
+            for(int remaining = quartzSchedule.getDaysOfWeek(); remaining != 0; remaining &= remaining - 1) {
+                days |= WEEKLY_DAYS[firstOccurrence(Integer.numberOfTrailingZeros(remaining), firstDayOfWeek)];
+            }
+            for(int remaining = quartzSchedule.getLastDaysOfWeek(); remaining != 0; remaining &= remaining - 1) {
+                int first = firstOccurrence(Integer.numberOfTrailingZeros(remaining), firstDayOfWeek);
+                days |= 1 << (first + (length - first) / 7 * 7);
+            }
+            for(long remaining = quartzSchedule.getNthDaysOfWeek(); remaining != 0; remaining &= remaining - 1) {
+                int bit = Long.numberOfTrailingZeros(remaining);
+                int day = firstOccurrence(bit % 7, firstDayOfWeek) + bit / 7 * 7;
+                if(day <= length) {
+                    days |= 1 << day;
+                }
+            }
+        }
+        return days & (int) CronSchedule.rangeMask(1, length);
+    }
+
+    /*
+        First day of month falling on dayOfWeek
+     */
+    private static int firstOccurrence(int dayOfWeek, int firstDayOfWeek) {
+        return 1 + Math.floorMod(dayOfWeek - firstDayOfWeek, 7);
+    }
+
+    /*
+        Monday to Friday nearest to day without leaving the month, as Quartz does for W
+     */
+    private static int nearestWeekday(int day, int length, int firstDayOfWeek) {
+        int dayOfWeek = (firstDayOfWeek + day - 1) % 7;
+        if(dayOfWeek == SATURDAY) {
+            return day == 1 ? day + 2 : day - 1;
+        }
+        if(dayOfWeek == SUNDAY) {
+            return day == length ? day - 2 : day + 1;
+        }
+        return day;
+    }
+
+    private static long toEpochMillis(int year, int month, int day, int hour, int minute, int second) {
+        long epochDay = EpochCalendar.daysFromCivil(year, month, day);
+        return (epochDay * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second) * MILLIS_PER_SECOND;
+    }
+}
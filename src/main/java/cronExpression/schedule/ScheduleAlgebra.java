@@ -0,0 +1,400 @@
+package cronExpression.schedule;
+
+import cronExpression.enums.OutputFieldName;
+import cronExpression.parser.CronSchedule;
+import cronExpression.parser.StepTable;
+
+import java.util.Arrays;
+
+import static cronExpression.schedule.EpochCalendar.MILLIS_PER_MINUTE;
+import static cronExpression.schedule.EpochCalendar.MINUTES_PER_DAY;
+import static cronExpression.schedule.FireTimeCalculator.MAX_LENGTH_OF_MONTH;
+
+/*
+    Set operations on the fire times of schedules, computed from the field bitmasks instead of simulating the calendar.
+    Minute and hour are independent of the date, so the fire times of a schedule are its minutes x hours x the days it
+    fires on. The days are kept as a day matrix: for every month and day of week the bitmask of days of month, limited
+    to days existing in that month. Every such combination occurs over the 400 year Gregorian cycle (29th of February
+    falls on each day of the week), so two schedules are compared exactly by comparing masks and 84 ints.
+ */
+public final class ScheduleAlgebra {
+    private static final int DAYS_OF_WEEK = 7;
+    private static final int ALL_DAYS_OF_WEEK = (int) CronSchedule.fullMask(OutputFieldName.DAY_OF_WEEK);
+    private static final int ALL_DAYS_OF_MONTH = (int) CronSchedule.fullMask(OutputFieldName.DAY_OF_MONTH);
+
+    private ScheduleAlgebra() {}
+
+    /*
+        True if the schedule never fires, for ex: 30th of February
+     */
+    public static boolean isEmpty(CronSchedule cronSchedule) {
+        return isZero(dayMatrix(cronSchedule));
+    }
+
+    /*
+        True if both schedules fire at some same minute
+     */
+    public static boolean overlaps(CronSchedule first, CronSchedule second) {
+        if((first.getMinutes() & second.getMinutes()) == 0 || (first.getHours() & second.getHours()) == 0) {
+            return false;
+        }
+        int[] firstDays = dayMatrix(first);
+        int[] secondDays = dayMatrix(second);
+        for(int i = 0; i < firstDays.length; i++) {
+            if((firstDays[i] & secondDays[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+        True if every fire time of subset is a fire time of superset, a schedule that never fires is a subset of all
+     */
+    public static boolean isSubset(CronSchedule subset, CronSchedule superset) {
+        int[] subsetDays = dayMatrix(subset);
+        if(isZero(subsetDays)) {
+            return true;
+        }
+        if((subset.getMinutes() & ~superset.getMinutes()) != 0 || (subset.getHours() & ~superset.getHours()) != 0) {
+            return false;
+        }
+        int[] supersetDays = dayMatrix(superset);
+        for(int i = 0; i < subsetDays.length; i++) {
+            if((subsetDays[i] & ~supersetDays[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+        True if both schedules fire at exactly the same minutes, for ex: 0,15,30,45 * * * * and * /15 * * * *
+     */
+    public static boolean isEquivalent(CronSchedule first, CronSchedule second) {
+        return isSubset(first, second) && isSubset(second, first);
+    }
+
+    /*
+        Schedule firing at the fire times common to both, or null if they never fire together or if the common fire
+        times can not be written as a single schedule. Use overlaps to tell these apart.
+     */
+    public static CronSchedule intersection(CronSchedule first, CronSchedule second) {
+        long minutes = first.getMinutes() & second.getMinutes();
+        int hours = first.getHours() & second.getHours();
+        if(minutes == 0 || hours == 0) {
+            return null;
+        }
+        int[] days = dayMatrix(first);
+        int[] secondDays = dayMatrix(second);
+        for(int i = 0; i < days.length; i++) {
+            days[i] &= secondDays[i];
+        }
+        return fromDayMatrix(minutes, hours, days);
+    }
+
+    /*
+        Schedule firing at the fire times of either, or null if they can not be written as a single schedule. That is
+        the case unless one contains the other or they differ in one of minute, hour and days only.
+     */
+    public static CronSchedule union(CronSchedule first, CronSchedule second) {
+        if(isSubset(first, second)) {
+            return minimize(second);
+        }
+        if(isSubset(second, first)) {
+            return minimize(first);
+        }
+        int[] firstDays = dayMatrix(first);
+        int[] secondDays = dayMatrix(second);
+        boolean sameMinutes = first.getMinutes() == second.getMinutes();
+        boolean sameHours = first.getHours() == second.getHours();
+        boolean sameDays = Arrays.equals(firstDays, secondDays);
+        if(!(sameMinutes && sameHours) && !(sameMinutes && sameDays) && !(sameHours && sameDays)) {
+            return null;
+        }
+        for(int i = 0; i < firstDays.length; i++) {
+            firstDays[i] |= secondDays[i];
+        }
+        return fromDayMatrix(first.getMinutes() | second.getMinutes(), first.getHours() | second.getHours(),
+                firstDays);
+    }
+
+    /*
+        Canonical schedule with the same fire times: days that exist in none of the months are added to day of month,
+        months without any matching day are dropped and day fields that do not restrict anything become '*'.
+        Equivalent schedules have equal canonical forms, a schedule that never fires is returned as is.
+     */
+    public static CronSchedule minimize(CronSchedule cronSchedule) {
+        int[] days = dayMatrix(cronSchedule);
+        if(isZero(days)) {
+            return cronSchedule;
+        }
+        return fromDayMatrix(cronSchedule.getMinutes(), cronSchedule.getHours(), days);
+    }
+
+    /*
+        Shortest five field text of the canonical schedule, for ex: "0,15,30,45 * * * *" becomes "* /15 * * * *" and
+        "0 0 1-31 * 1-5" becomes "0 0 * * *". Equivalent schedules get the same text.
+        Returns null for a schedule that never fires, and for an intersection that has no textual form, i.e. both day
+        fields restricted but required to match both.
+     */
+    public static String canonicalExpression(CronSchedule cronSchedule) {
+        if(isEmpty(cronSchedule)) {
+            return null;
+        }
+        CronSchedule canonical = minimize(cronSchedule);
+        String dayOfMonth;
+        String dayOfWeek;
+        if(canonical.isDayOfMonthAsterisk() || canonical.isDayOfWeekAsterisk()) {
+            // Both day fields have to match, which cron does only when one of them starts with '*'
+            dayOfMonth = fieldText(canonical, OutputFieldName.DAY_OF_MONTH, true, false);
+            dayOfWeek = fieldText(canonical, OutputFieldName.DAY_OF_WEEK, true, false);
+            if(dayOfMonth.charAt(0) != '*' && dayOfWeek.charAt(0) != '*') {
+                String asteriskDayOfMonth = fieldText(canonical, OutputFieldName.DAY_OF_MONTH, true, true);
+                String asteriskDayOfWeek = fieldText(canonical, OutputFieldName.DAY_OF_WEEK, true, true);
+                if(asteriskDayOfMonth != null) {
+                    dayOfMonth = asteriskDayOfMonth;
+                } else if(asteriskDayOfWeek != null) {
+                    dayOfWeek = asteriskDayOfWeek;
+                } else {
+                    return null;
+                }
+            }
+        } else {
+            // Any day field may match, neither of them may start with '*'
+            dayOfMonth = fieldText(canonical, OutputFieldName.DAY_OF_MONTH, false, false);
+            dayOfWeek = fieldText(canonical, OutputFieldName.DAY_OF_WEEK, false, false);
+        }
+        return fieldText(canonical, OutputFieldName.MINUTE, true, false)
+                + " " + fieldText(canonical, OutputFieldName.HOUR, true, false)
+                + " " + dayOfMonth
+                + " " + fieldText(canonical, OutputFieldName.MONTH, true, false)
+                + " " + dayOfWeek;
+    }
+
+    /*
+        Number of minutes in [fromMillis, toMillis) (UTC) at which both schedules fire, whole days cost a few bit
+        operations and only the partial days at the ends of the window are counted minute by minute
+     */
+    public static long countCommonFireTimes(CronSchedule first, CronSchedule second, long fromMillis, long toMillis) {
+        long minutes = first.getMinutes() & second.getMinutes();
+        int hours = first.getHours() & second.getHours();
+        if(minutes == 0 || hours == 0 || fromMillis >= toMillis) {
+            return 0;
+        }
+        int[] days = dayMatrix(first);
+        int[] secondDays = dayMatrix(second);
+        for(int i = 0; i < days.length; i++) {
+            days[i] &= secondDays[i];
+        }
+        long firstMinute = Math.floorDiv(fromMillis + MILLIS_PER_MINUTE - 1, MILLIS_PER_MINUTE);
+        long endMinute = Math.floorDiv(toMillis - 1, MILLIS_PER_MINUTE) + 1;
+        long firesPerDay = (long) Long.bitCount(minutes) * Integer.bitCount(hours);
+        long count = 0;
+        for(long epochDay = Math.floorDiv(firstMinute, (long) MINUTES_PER_DAY);
+            epochDay * MINUTES_PER_DAY < endMinute; epochDay++) {
+            int date = EpochCalendar.civilFromDays(epochDay);
+            int index = EpochCalendar.month(date) * DAYS_OF_WEEK + EpochCalendar.dayOfWeek(epochDay);
+            if((days[index] & (1 << EpochCalendar.dayOfMonth(date))) == 0) {
+                continue;
+            }
+            long dayStart = epochDay * MINUTES_PER_DAY;
+            long from = Math.max(firstMinute, dayStart);
+            long to = Math.min(endMinute, dayStart + MINUTES_PER_DAY);
+            if(from == dayStart && to == dayStart + MINUTES_PER_DAY) {
+                count += firesPerDay;
+                continue;
+            }
+            for(long minute = from; minute < to; minute++) {
+                int minuteOfDay = (int) (minute - dayStart);
+                if((hours & (1 << (minuteOfDay / 60))) != 0 && (minutes & (1L << (minuteOfDay % 60))) != 0) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /*
+        days[month * 7 + dayOfWeek] is the bitmask of days of month the schedule fires on in that month and day of
+        week, limited to days the month can have
+     */
+    static int[] dayMatrix(CronSchedule cronSchedule) {
+        int[] days = new int[13 * DAYS_OF_WEEK];
+        boolean bothMatch = cronSchedule.isDayOfMonthAsterisk() || cronSchedule.isDayOfWeekAsterisk();
+        for(int remaining = cronSchedule.getMonths(); remaining != 0; remaining &= remaining - 1) {
+            int month = Integer.numberOfTrailingZeros(remaining);
+            int valid = validDays(month);
+            for(int dayOfWeek = 0; dayOfWeek < DAYS_OF_WEEK; dayOfWeek++) {
+                boolean dayOfWeekMatches = (cronSchedule.getDaysOfWeek() & (1 << dayOfWeek)) != 0;
+                int matching;
+                if(bothMatch) {
+                    matching = dayOfWeekMatches ? cronSchedule.getDaysOfMonth() : 0;
+                } else {
+                    matching = dayOfWeekMatches ? ALL_DAYS_OF_MONTH : cronSchedule.getDaysOfMonth();
+                }
+                days[month * DAYS_OF_WEEK + dayOfWeek] = matching & valid;
+            }
+        }
+        return days;
+    }
+
+    /*
+        Schedule with the given minutes, hours and day matrix, trying both match if either day field is '*' first and
+        match any day field second, or null if the day matrix is neither
+     */
+    private static CronSchedule fromDayMatrix(long minutes, int hours, int[] days) {
+        int months = 0;
+        int maximumLength = 0;
+        int daysOfMonth = 0;
+        int daysOfWeek = 0;
+        for(int month = 1; month <= 12; month++) {
+            for(int dayOfWeek = 0; dayOfWeek < DAYS_OF_WEEK; dayOfWeek++) {
+                int matching = days[month * DAYS_OF_WEEK + dayOfWeek];
+                if(matching != 0) {
+                    months |= 1 << month;
+                    maximumLength = Math.max(maximumLength, MAX_LENGTH_OF_MONTH[month]);
+                    daysOfMonth |= matching;
+                    daysOfWeek |= 1 << dayOfWeek;
+                }
+            }
+        }
+        if(months == 0) {
+            return null;
+        }
+        // Days no selected month has restrict nothing, adding them lets "* 2" and "1-29 2" come out alike
+        int nonExistent = ALL_DAYS_OF_MONTH & ~(int) CronSchedule.rangeMask(1, maximumLength);
+
+        int bothDaysOfMonth = daysOfMonth | nonExistent;
+        if(matchesDayMatrix(days, months, bothDaysOfMonth, daysOfWeek, true)) {
+            boolean dayOfMonthAsterisk = bothDaysOfMonth == ALL_DAYS_OF_MONTH;
+            boolean dayOfWeekAsterisk = daysOfWeek == ALL_DAYS_OF_WEEK;
+            // Without either flag cron would match any of the day fields, the day of month flag keeps both matching
+            return new CronSchedule(minutes, hours, bothDaysOfMonth, months, daysOfWeek,
+                    dayOfMonthAsterisk || !dayOfWeekAsterisk, dayOfWeekAsterisk);
+        }
+
+        int anyDaysOfMonth = ALL_DAYS_OF_MONTH;
+        int anyDaysOfWeek = 0;
+        for(int dayOfWeek = 0; dayOfWeek < DAYS_OF_WEEK; dayOfWeek++) {
+            boolean everyDay = true;
+            for(int remaining = months; remaining != 0; remaining &= remaining - 1) {
+                int month = Integer.numberOfTrailingZeros(remaining);
+                int matching = days[month * DAYS_OF_WEEK + dayOfWeek];
+                everyDay &= matching == validDays(month);
+                anyDaysOfMonth &= matching | ~validDays(month);
+            }
+            if(everyDay) {
+                anyDaysOfWeek |= 1 << dayOfWeek;
+            }
+        }
+        if(anyDaysOfMonth != 0 && anyDaysOfWeek != 0
+                && matchesDayMatrix(days, months, anyDaysOfMonth, anyDaysOfWeek, false)) {
+            return new CronSchedule(minutes, hours, anyDaysOfMonth, months, anyDaysOfWeek, false, false);
+        }
+        return null;
+    }
+
+    private static boolean matchesDayMatrix(int[] days, int months, int daysOfMonth, int daysOfWeek,
+                                            boolean bothMatch) {
+        for(int month = 1; month <= 12; month++) {
+            boolean monthMatches = (months & (1 << month)) != 0;
+            for(int dayOfWeek = 0; dayOfWeek < DAYS_OF_WEEK; dayOfWeek++) {
+                boolean dayOfWeekMatches = (daysOfWeek & (1 << dayOfWeek)) != 0;
+                int expected = 0;
+                if(monthMatches) {
+                    expected = bothMatch ? (dayOfWeekMatches ? daysOfMonth : 0)
+                            : (dayOfWeekMatches ? ALL_DAYS_OF_MONTH : daysOfMonth);
+                    expected &= validDays(month);
+                }
+                if(days[month * DAYS_OF_WEEK + dayOfWeek] != expected) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /*
+        Shortest text of a field of cronSchedule among '*', '* /${step}' and a list of values, ranges and
+        stepped ranges.
+        Input: 1) asteriskAllowed: false where a leading '*' would change the meaning of the day fields
+               2) asteriskRequired: only '*' and '* /${step}' are acceptable, null is returned if neither fits
+     */
+    private static String fieldText(CronSchedule cronSchedule, OutputFieldName outputFieldName,
+                                    boolean asteriskAllowed, boolean asteriskRequired) {
+        long mask = cronSchedule.getMask(outputFieldName);
+        String asterisk = null;
+        if(asteriskAllowed) {
+            if(mask == CronSchedule.fullMask(outputFieldName)) {
+                return "*";
+            }
+            int step = Long.bitCount(mask) > 1 ? StepTable.stepOf(outputFieldName, mask) : 0;
+            if(step > 1) {
+                asterisk = "*/" + step;
+            }
+        }
+        if(asteriskRequired) {
+            return asterisk;
+        }
+        String list = listText(mask);
+        return asterisk != null && asterisk.length() < list.length() ? asterisk : list;
+    }
+
+    /*
+        Values of mask in ascending order, greedily grouping arithmetic progressions of three or more values into
+        ${first}-${last} or ${first}-${last}/${step} when that is shorter than listing them
+     */
+    private static String listText(long mask) {
+        int[] values = new int[Long.bitCount(mask)];
+        int count = 0;
+        for(long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            values[count++] = Long.numberOfTrailingZeros(remaining);
+        }
+        StringBuilder text = new StringBuilder();
+        int i = 0;
+        while(i < count) {
+            int end = i + 1;
+            if(end < count) {
+                int step = values[end] - values[i];
+                while(end + 1 < count && values[end + 1] - values[end] == step) {
+                    end++;
+                }
+                end++;
+                String grouped = values[i] + "-" + values[end - 1] + (step > 1 ? "/" + step : "");
+                StringBuilder listed = new StringBuilder();
+                for(int j = i; j < end; j++) {
+                    listed.append(j > i ? "," : "").append(values[j]);
+                }
+                if(end - i >= 3 && grouped.length() < listed.length()) {
+                    appendElement(text, grouped);
+                    i = end;
+                    continue;
+                }
+            }
+            appendElement(text, Integer.toString(values[i]));
+            i++;
+        }
+        return text.toString();
+    }
+
+    private static void appendElement(StringBuilder text, String element) {
+        if(text.length() > 0) {
+            text.append(',');
+        }
+        text.append(element);
+    }
+
+    private static int validDays(int month) {
+        return (int) CronSchedule.rangeMask(1, MAX_LENGTH_OF_MONTH[month]);
+    }
+
+    private static boolean isZero(int[] days) {
+        for(int matching : days) {
+            if(matching != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,162 @@
+package cronExpression.schedule;
+
+import cronExpression.enums.OutputFieldName;
+import cronExpression.metrics.Counter;
+import cronExpression.metrics.Metrics;
+import cronExpression.parser.CronSchedule;
+
+import java.util.Arrays;
+
+import static cronExpression.schedule.EpochCalendar.MILLIS_PER_MINUTE;
+import static cronExpression.schedule.EpochCalendar.MINUTES_PER_DAY;
+
+/*
+    Struct of arrays store of compiled schedules: one primitive column per OutputFieldName holding that field's
+    bitmask for every schedule, 20 bytes per schedule in total and no object per schedule.
+    Matching a point of time scans the columns linearly with shifts and ANDs only, without branches per schedule, and
+    appends the indices of matching schedules to a reusable IndexBuffer.
+    Not thread safe for writes, concurrent scans are safe while nothing is added, set or removed.
+ */
+public class ScheduleColumns {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Indices are appended in blocks so that the room check is done once per block instead of once per schedule
+    private static final int SCAN_BLOCK = 1024;
+
+    private static final int BOTH_DAYS_MATCH = 1;
+
+    private long[] minutes;
+    private int[] hours;
+    private int[] daysOfMonth;
+    private short[] months;
+    private byte[] daysOfWeek;
+    // BOTH_DAYS_MATCH when either day field is '*', otherwise 0
+    private byte[] flags;
+    private int size;
+
+    public ScheduleColumns() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public ScheduleColumns(int capacity) {
+        int initialCapacity = Math.max(capacity, 1);
+        this.minutes = new long[initialCapacity];
+        this.hours = new int[initialCapacity];
+        this.daysOfMonth = new int[initialCapacity];
+        this.months = new short[initialCapacity];
+        this.daysOfWeek = new byte[initialCapacity];
+        this.flags = new byte[initialCapacity];
+    }
+
+    /*
+        Appends cronSchedule and returns its index
+     */
+    public int add(CronSchedule cronSchedule) {
+        if(this.size == this.minutes.length) {
+            grow();
+        }
+        int index = this.size++;
+        set(index, cronSchedule);
+        return index;
+    }
+
+    /*
+        Replaces the schedule at index
+     */
+    public void set(int index, CronSchedule cronSchedule) {
+        checkIndex(index);
+        this.minutes[index] = cronSchedule.getMask(OutputFieldName.MINUTE);
+        this.hours[index] = (int) cronSchedule.getMask(OutputFieldName.HOUR);
+        this.daysOfMonth[index] = (int) cronSchedule.getMask(OutputFieldName.DAY_OF_MONTH);
+        this.months[index] = (short) cronSchedule.getMask(OutputFieldName.MONTH);
+        this.daysOfWeek[index] = (byte) cronSchedule.getMask(OutputFieldName.DAY_OF_WEEK);
+        this.flags[index] = (byte) (cronSchedule.isDayOfMonthAsterisk() || cronSchedule.isDayOfWeekAsterisk()
+                ? BOTH_DAYS_MATCH : 0);
+    }
+
+    /*
+        Removes the schedule at index by moving the last schedule into its place, returns the previous index of the
+        moved schedule (equal to index when the last schedule was removed)
+     */
+    public int remove(int index) {
+        checkIndex(index);
+        int last = --this.size;
+        this.minutes[index] = this.minutes[last];
+        this.hours[index] = this.hours[last];
+        this.daysOfMonth[index] = this.daysOfMonth[last];
+        this.months[index] = this.months[last];
+        this.daysOfWeek[index] = this.daysOfWeek[last];
+        this.flags[index] = this.flags[last];
+        return last;
+    }
+
+    /*
+        Schedule at index as an object, the '*' flags are restored as both day fields having to match
+     */
+    public CronSchedule get(int index) {
+        checkIndex(index);
+        boolean bothMatch = this.flags[index] == BOTH_DAYS_MATCH;
+        return new CronSchedule(this.minutes[index], this.hours[index], this.daysOfMonth[index],
+                this.months[index] & 0xFFFF, this.daysOfWeek[index] & 0xFF, bothMatch, false);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /*
+        Appends to indexBuffer the indices of all schedules firing in the minute containing epochMillis (UTC), in
+        ascending order. Returns the number of indices appended.
+     */
+    public int matchesAt(long epochMillis, IndexBuffer indexBuffer) {
+        long minuteIndex = Math.floorDiv(epochMillis, MILLIS_PER_MINUTE);
+        long epochDay = Math.floorDiv(minuteIndex, (long) MINUTES_PER_DAY);
+        int minuteOfDay = (int) Math.floorMod(minuteIndex, (long) MINUTES_PER_DAY);
+        int date = EpochCalendar.civilFromDays(epochDay);
+        return matches(minuteOfDay % 60, minuteOfDay / 60, EpochCalendar.dayOfMonth(date), EpochCalendar.month(date),
+                EpochCalendar.dayOfWeek(epochDay), indexBuffer);
+    }
+
+    /*
+        Same as matchesAt for the given point of time
+        Input: minute 0-59, hour 0-23, dayOfMonth 1-31, month 1-12, dayOfWeek 0-6 where 0 is Sunday, indexBuffer
+     */
+    public int matches(int minute, int hour, int dayOfMonth, int month, int dayOfWeek, IndexBuffer indexBuffer) {
+        Metrics.registry().increment(Counter.INDEX_LOOKUPS);
+        int start = indexBuffer.size;
+        for(int blockStart = 0; blockStart < this.size; blockStart += SCAN_BLOCK) {
+            int blockEnd = Math.min(blockStart + SCAN_BLOCK, this.size);
+            indexBuffer.ensureRemaining(blockEnd - blockStart);
+            int[] indices = indexBuffer.indices;
+            int count = indexBuffer.size;
+            for(int i = blockStart; i < blockEnd; i++) {
+                int time = (int) (this.minutes[i] >>> minute) & (this.hours[i] >>> hour) & (this.months[i] >>> month);
+                int dayOfMonthMatches = this.daysOfMonth[i] >>> dayOfMonth;
+                int dayOfWeekMatches = this.daysOfWeek[i] >>> dayOfWeek;
+                // Both day fields when either is '*', any of them otherwise
+                int day = (dayOfMonthMatches & dayOfWeekMatches)
+                        | ((dayOfMonthMatches | dayOfWeekMatches) & ~this.flags[i]);
+                indices[count] = i;
+                count += time & day & 1;
+            }
+            indexBuffer.size = count;
+        }
+        return indexBuffer.size - start;
+    }
+
+    private void grow() {
+        int capacity = this.minutes.length * 2;
+        this.minutes = Arrays.copyOf(this.minutes, capacity);
+        this.hours = Arrays.copyOf(this.hours, capacity);
+        this.daysOfMonth = Arrays.copyOf(this.daysOfMonth, capacity);
+        this.months = Arrays.copyOf(this.months, capacity);
+        this.daysOfWeek = Arrays.copyOf(this.daysOfWeek, capacity);
+        this.flags = Arrays.copyOf(this.flags, capacity);
+    }
+
+    private void checkIndex(int index) {
+        if(index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " of schedule columns of size " + this.size);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package cronExpression.schedule;
+
+import cronExpression.enums.OutputFieldName;
+import cronExpression.metrics.Counter;
+import cronExpression.metrics.Metrics;
+import cronExpression.parser.CronSchedule;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+import static cronExpression.schedule.EpochCalendar.MILLIS_PER_MINUTE;
+import static cronExpression.schedule.EpochCalendar.MINUTES_PER_DAY;
+
+/*
+    Inverted index over many compiled schedules answering which of them fire at a given minute.
+    Every value of every OutputFieldName owns a bitset with one bit per registered schedule, so finding the schedules
+    firing at a point of time is a word by word AND of five bitsets followed by a walk over the set bits, 64 schedules
+    at a time, instead of testing each schedule on its own.
+    Schedules get an id on add which is reused once they are removed. Adding and removing take a write lock while
+    lookups share a read lock.
+ */
+public class ScheduleIndex {
+    private static final int INITIAL_WORDS = 16;
+
+    private static final OutputFieldName[] SCHEDULE_FIELDS = OutputFieldName.scheduleFields();
+
+    // bits[field ordinal][value][word], bit i of a word is set when the schedule with that id contains the value
+    private final long[][][] bits;
+
+    // Schedules where either day field is '*', for them day of month and day of week both have to match
+    private long[] asteriskDays;
+
+    private CronSchedule[] schedules;
+
+    // Ids freed by remove, handed out again before the index grows
+    private int[] freeIds = new int[INITIAL_WORDS];
+    private int freeCount;
+    private int nextId;
+    private int size;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ScheduleIndex() {
+        this.bits = new long[OutputFieldName.values().length][][];
+        for(OutputFieldName outputFieldName : SCHEDULE_FIELDS) {
+            this.bits[outputFieldName.ordinal()] = new long[outputFieldName.getEnd() + 1][INITIAL_WORDS];
+        }
+        this.asteriskDays = new long[INITIAL_WORDS];
+        this.schedules = new CronSchedule[INITIAL_WORDS * Long.SIZE];
+    }
+
+    /*
+        Registers cronSchedule and returns its id
+     */
+    public int add(CronSchedule cronSchedule) {
+        this.lock.writeLock().lock();
+        try {
+            int id = this.freeCount > 0 ? this.freeIds[--this.freeCount] : this.nextId++;
+            if(id >= this.schedules.length) {
+                grow();
+            }
+            int word = id >>> 6;
+            long bit = 1L << id;
+            for(OutputFieldName outputFieldName : SCHEDULE_FIELDS) {
+                long[][] valueBits = this.bits[outputFieldName.ordinal()];
+                for(long remaining = cronSchedule.getMask(outputFieldName); remaining != 0; remaining &= remaining - 1) {
+                    valueBits[Long.numberOfTrailingZeros(remaining)][word] |= bit;
+                }
+            }
+            if(cronSchedule.isDayOfMonthAsterisk() || cronSchedule.isDayOfWeekAsterisk()) {
+                this.asteriskDays[word] |= bit;
+            }
+            this.schedules[id] = cronSchedule;
+            this.size++;
+            return id;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /*
+        Unregisters the schedule with the given id, returns false if there is none
+     */
+    public boolean remove(int id) {
+        this.lock.writeLock().lock();
+        try {
+            if(id < 0 || id >= this.nextId || this.schedules[id] == null) {
+                return false;
+            }
+            CronSchedule cronSchedule = this.schedules[id];
+            int word = id >>> 6;
+            long bit = 1L << id;
+            for(OutputFieldName outputFieldName : SCHEDULE_FIELDS) {
+                long[][] valueBits = this.bits[outputFieldName.ordinal()];
+                for(long remaining = cronSchedule.getMask(outputFieldName); remaining != 0; remaining &= remaining - 1) {
+                    valueBits[Long.numberOfTrailingZeros(remaining)][word] &= ~bit;
+                }
+            }
+            this.asteriskDays[word] &= ~bit;
+            this.schedules[id] = null;
+            if(this.freeCount == this.freeIds.length) {
+                this.freeIds = Arrays.copyOf(this.freeIds, this.freeCount * 2);
+            }
+            this.freeIds[this.freeCount++] = id;
+            this.size--;
+            return true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public CronSchedule get(int id) {
+        this.lock.readLock().lock();
+        try {
+            return id < 0 || id >= this.nextId ? null : this.schedules[id];
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.size;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /*
+        Calls consumer with the id of every schedule firing in the minute containing epochMillis (UTC), in ascending
+        order of id. The consumer must not add or remove schedules.
+     */
+    public void forEachMatch(long epochMillis, IntConsumer consumer) {
+        Metrics.registry().increment(Counter.INDEX_LOOKUPS);
+        long minuteIndex = Math.floorDiv(epochMillis, MILLIS_PER_MINUTE);
+        long epochDay = Math.floorDiv(minuteIndex, (long) MINUTES_PER_DAY);
+        int minuteOfDay = (int) Math.floorMod(minuteIndex, (long) MINUTES_PER_DAY);
+        int date = EpochCalendar.civilFromDays(epochDay);
+
+        this.lock.readLock().lock();
+        try {
+            long[] minutes = this.bits[OutputFieldName.MINUTE.ordinal()][minuteOfDay % 60];
+            long[] hours = this.bits[OutputFieldName.HOUR.ordinal()][minuteOfDay / 60];
+            long[] daysOfMonth = this.bits[OutputFieldName.DAY_OF_MONTH.ordinal()][EpochCalendar.dayOfMonth(date)];
+            long[] months = this.bits[OutputFieldName.MONTH.ordinal()][EpochCalendar.month(date)];
+            long[] daysOfWeek = this.bits[OutputFieldName.DAY_OF_WEEK.ordinal()][EpochCalendar.dayOfWeek(epochDay)];
+            int words = (this.nextId + 63) >>> 6;
+            for(int word = 0; word < words; word++) {
+                long time = minutes[word] & hours[word] & months[word];
+                if(time == 0) {
+                    continue;
+                }
+                // Schedules with '*' in a day field need both day fields to match, the others need any of them
+                long both = daysOfMonth[word] & daysOfWeek[word];
+                long any = daysOfMonth[word] | daysOfWeek[word];
+                for(long matching = time & (both | (any & ~this.asteriskDays[word])); matching != 0; matching &= matching - 1) {
+                    consumer.accept((word << 6) + Long.numberOfTrailingZeros(matching));
+                }
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /*
+        Ids of all schedules firing in the minute containing epochMillis (UTC) in ascending order
+     */
+    public int[] matchesAt(long epochMillis) {
+        IdCollector idCollector = new IdCollector();
+        forEachMatch(epochMillis, idCollector);
+        return Arrays.copyOf(idCollector.ids, idCollector.count);
+    }
+
+    private void grow() {
+        int words = this.asteriskDays.length * 2;
+        for(OutputFieldName outputFieldName : SCHEDULE_FIELDS) {
+            long[][] valueBits = this.bits[outputFieldName.ordinal()];
+            for(int value = 0; value < valueBits.length; value++) {
+                valueBits[value] = Arrays.copyOf(valueBits[value], words);
+            }
+        }
+        this.asteriskDays = Arrays.copyOf(this.asteriskDays, words);
+        this.schedules = Arrays.copyOf(this.schedules, words * Long.SIZE);
+    }
+
+    private static final class IdCollector implements IntConsumer {
+        private int[] ids = new int[INITIAL_WORDS];
+        private int count;
+
+        @Override
+        public void accept(int id) {
+            if(this.count == this.ids.length) {
+                this.ids = Arrays.copyOf(this.ids, this.count * 2);
+            }
+            this.ids[this.count++] = id;
+        }
+    }
+}
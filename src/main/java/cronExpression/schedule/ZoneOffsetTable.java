@@ -0,0 +1,122 @@
+package cronExpression.schedule;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+    UTC offsets of a time zone flattened into sorted arrays of transition instants, built once per zone and shared.
+    Between two transitions the offset is constant, so looking up the period of an instant is a binary search over a few
+    hundred longs instead of a call into ZoneRules. Instants outside the precomputed years fall back to ZoneRules.
+ */
+final class ZoneOffsetTable {
+    // Transitions from 1900 up to 2200 are precomputed, about two per year for zones with daylight saving time
+    private static final long RANGE_START_MILLIS = Instant.parse("1900-01-01T00:00:00Z").toEpochMilli();
+    private static final long RANGE_END_MILLIS = Instant.parse("2200-01-01T00:00:00Z").toEpochMilli();
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    private static final ConcurrentMap<ZoneId, ZoneOffsetTable> TABLES = new ConcurrentHashMap<>();
+
+    private final ZoneRules rules;
+    private final boolean fixedOffset;
+
+    // transitions[i] is the first instant with offset offsets[i + 1], offsets[0] applies before the first transition
+    private final long[] transitions;
+    private final int[] offsets;
+
+    private ZoneOffsetTable(ZoneRules rules) {
+        this.rules = rules;
+        this.fixedOffset = rules.isFixedOffset();
+        List<ZoneOffsetTransition> zoneTransitions = new ArrayList<>();
+        if(!this.fixedOffset) {
+            ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochMilli(RANGE_START_MILLIS));
+            while(transition != null && transition.toEpochSecond() * MILLIS_PER_SECOND < RANGE_END_MILLIS) {
+                zoneTransitions.add(transition);
+                transition = rules.nextTransition(transition.getInstant());
+            }
+        }
+        this.transitions = new long[zoneTransitions.size()];
+        this.offsets = new int[zoneTransitions.size() + 1];
+        this.offsets[0] = offsetMillis(rules, RANGE_START_MILLIS);
+        for(int i = 0; i < this.transitions.length; i++) {
+            this.transitions[i] = zoneTransitions.get(i).toEpochSecond() * MILLIS_PER_SECOND;
+            this.offsets[i + 1] = zoneTransitions.get(i).getOffsetAfter().getTotalSeconds() * (int) MILLIS_PER_SECOND;
+        }
+    }
+
+    static ZoneOffsetTable of(ZoneId zoneId) {
+        return TABLES.computeIfAbsent(zoneId, id -> new ZoneOffsetTable(id.getRules()));
+    }
+
+    /*
+        Offset in milliseconds to add to epochMillis to get local time
+     */
+    long offsetMillis(long epochMillis) {
+        if(this.fixedOffset) {
+            return this.offsets[0];
+        }
+        if(epochMillis < RANGE_START_MILLIS || epochMillis >= RANGE_END_MILLIS) {
+            return offsetMillis(this.rules, epochMillis);
+        }
+        return this.offsets[period(epochMillis)];
+    }
+
+    /*
+        First transition strictly after epochMillis or Long.MAX_VALUE if the offset never changes again
+     */
+    long nextTransition(long epochMillis) {
+        if(this.fixedOffset) {
+            return Long.MAX_VALUE;
+        }
+        int period = epochMillis < RANGE_START_MILLIS ? -1 : period(epochMillis);
+        if(period < 0 || period == this.transitions.length) {
+            ZoneOffsetTransition transition = this.rules.nextTransition(Instant.ofEpochMilli(epochMillis));
+            return transition == null ? Long.MAX_VALUE : transition.toEpochSecond() * MILLIS_PER_SECOND;
+        }
+        return this.transitions[period];
+    }
+
+    /*
+        Last transition at or before epochMillis, i.e. the start of its period, or Long.MIN_VALUE if there is none
+     */
+    long previousTransition(long epochMillis) {
+        if(this.fixedOffset) {
+            return Long.MIN_VALUE;
+        }
+        int period = epochMillis >= RANGE_END_MILLIS ? -1 : period(epochMillis);
+        if(period <= 0) {
+            // Transitions are on whole seconds, asking for the one before the next second includes epochMillis itself
+            ZoneOffsetTransition transition = this.rules.previousTransition(
+                    Instant.ofEpochSecond(Math.floorDiv(epochMillis, MILLIS_PER_SECOND) + 1));
+            return transition == null ? Long.MIN_VALUE : transition.toEpochSecond() * MILLIS_PER_SECOND;
+        }
+        return this.transitions[period - 1];
+    }
+
+    /*
+        Number of precomputed transitions at or before epochMillis
+     */
+    private int period(long epochMillis) {
+        int low = 0;
+        int high = this.transitions.length;
+        while(low < high) {
+            int middle = (low + high) >>> 1;
+            if(this.transitions[middle] <= epochMillis) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int offsetMillis(ZoneRules rules, long epochMillis) {
+        return rules.getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * (int) MILLIS_PER_SECOND;
+    }
+}
@@ -0,0 +1,91 @@
+package cronExpression.schedule;
+
+import cronExpression.parser.CronSchedule;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static cronExpression.schedule.FireTimeCalculator.NO_FIRE_TIME;
+
+/*
+    Fire times of a CronSchedule evaluated against the wall clock of a time zone.
+    A schedule fires at every instant whose local time matches it, hence local times skipped by a daylight saving
+    transition never fire and local times repeated by one fire twice, once per offset.
+    Within a period of constant offset the search is the one of FireTimeCalculator shifted by that offset, a candidate
+    beyond the end of the period moves the search to the next period. Offsets and transitions come from a
+    ZoneOffsetTable cached per zone, so ZoneRules is not consulted per candidate.
+ */
+public final class ZonedFireTimeCalculator {
+
+    private ZonedFireTimeCalculator() {}
+
+    /*
+        Earliest instant strictly after epochMillis with local time in zoneId matching cronSchedule, or NO_FIRE_TIME
+     */
+    public static long nextFireTime(CronSchedule cronSchedule, ZoneId zoneId, long epochMillis) {
+        ZoneOffsetTable zoneOffsetTable = ZoneOffsetTable.of(zoneId);
+        long offset = zoneOffsetTable.offsetMillis(epochMillis);
+        long periodEnd = zoneOffsetTable.nextTransition(epochMillis);
+        long localAfter = epochMillis + offset;
+        while(true) {
+            long local = FireTimeCalculator.nextFireTime(cronSchedule, localAfter);
+            if(local == NO_FIRE_TIME) {
+                return NO_FIRE_TIME;
+            }
+            if(local - offset < periodEnd) {
+                return local - offset;
+            }
+            // Continues from the first instant of the next period, which may itself be a fire time
+            offset = zoneOffsetTable.offsetMillis(periodEnd);
+            localAfter = periodEnd + offset - 1;
+            periodEnd = zoneOffsetTable.nextTransition(periodEnd);
+        }
+    }
+
+    /*
+        Latest instant strictly before epochMillis with local time in zoneId matching cronSchedule, or NO_FIRE_TIME
+     */
+    public static long previousFireTime(CronSchedule cronSchedule, ZoneId zoneId, long epochMillis) {
+        ZoneOffsetTable zoneOffsetTable = ZoneOffsetTable.of(zoneId);
+        long offset = zoneOffsetTable.offsetMillis(epochMillis - 1);
+        long periodStart = zoneOffsetTable.previousTransition(epochMillis - 1);
+        long localBefore = epochMillis + offset;
+        while(true) {
+            long local = FireTimeCalculator.previousFireTime(cronSchedule, localBefore);
+            if(local == NO_FIRE_TIME) {
+                return NO_FIRE_TIME;
+            }
+            if(local - offset >= periodStart) {
+                return local - offset;
+            }
+            offset = zoneOffsetTable.offsetMillis(periodStart - 1);
+            localBefore = periodStart + offset;
+            periodStart = zoneOffsetTable.previousTransition(periodStart - 1);
+        }
+    }
+
+    /*
+        Same as nextFireTime(CronSchedule, ZoneId, long) in the zone of after, returns null if the schedule never fires
+     */
+    public static ZonedDateTime nextFireTime(CronSchedule cronSchedule, ZonedDateTime after) {
+        return toZonedDateTime(nextFireTime(cronSchedule, after.getZone(), after.toInstant().toEpochMilli()),
+                after.getZone());
+    }
+
+    /*
+        Same as previousFireTime(CronSchedule, ZoneId, long) in the zone of before, returns null if the schedule never
+        fires
+     */
+    public static ZonedDateTime previousFireTime(CronSchedule cronSchedule, ZonedDateTime before) {
+        return toZonedDateTime(previousFireTime(cronSchedule, before.getZone(), before.toInstant().toEpochMilli()),
+                before.getZone());
+    }
+
+    private static ZonedDateTime toZonedDateTime(long epochMillis, ZoneId zoneId) {
+        if(epochMillis == NO_FIRE_TIME) {
+            return null;
+        }
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zoneId);
+    }
+}
@@ -0,0 +1,15 @@
+package cronExpression.scheduler;
+
+/*
+    Action run by CronScheduler whenever a job fires, called on a thread of the scheduler's executor
+ */
+@FunctionalInterface
+public interface CommandDispatcher {
+
+    /*
+        Input: 1) jobId: id returned when the job was scheduled
+               2) command: command part of the expression, null for jobs scheduled with a Runnable
+               3) fireTime: epoch milliseconds (UTC) the job was due at
+     */
+    void dispatch(int jobId, String command, long fireTime) throws Exception;
+}
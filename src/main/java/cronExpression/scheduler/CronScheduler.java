@@ -0,0 +1,253 @@
+package cronExpression.scheduler;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronExpression;
+import cronExpression.parser.CronExpressionDescription;
+import cronExpression.parser.CronSchedule;
+import cronExpression.schedule.FireTimeCalculator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/*
+    Embeddable scheduler running jobs registered from cron expressions.
+    Jobs wait on a hierarchical TimingWheel at their next fire time as computed from the compiled schedule. A single
+    driver thread wakes up once per tick, expires the jobs of that tick only and hands them to the executor, so there is
+    no scan over all jobs. Executors are supplied by the caller, for ex: a fixed pool, or virtual threads through
+    Executors.newVirtualThreadPerTaskExecutor() on Java 21 and later.
+ */
+public class CronScheduler implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(CronScheduler.class);
+
+    // Cron expressions have minute resolution
+    private static final long DEFAULT_TICK_MILLIS = 60_000L;
+
+    // Longest sleep of the driver thread, so that adjustments of the wall clock are noticed
+    private static final long MAXIMUM_WAIT_MILLIS = 1_000L;
+
+    private final Executor executor;
+    private final CommandDispatcher commandDispatcher;
+    private final LongSupplier clock;
+    private final long tickMillis;
+
+    private final TimingWheel timingWheel;
+    private final Map<Integer, ScheduledJob> jobs = new HashMap<>();
+    private int nextJobId;
+
+    // Jobs expired by the current tick, dispatched once the lock is released
+    private final List<ScheduledJob> expiredJobs = new ArrayList<>();
+
+    private volatile boolean running;
+    // Last started driver thread, a driver replaced by a restart stops as well
+    private volatile Thread driver;
+
+    /*
+        Input: 1) executor: runs dispatched commands, the scheduler does not shut it down
+               2) commandDispatcher: action for jobs scheduled from expressions, for ex: ProcessCommandDispatcher
+     */
+    public CronScheduler(Executor executor, CommandDispatcher commandDispatcher) {
+        this(executor, commandDispatcher, System::currentTimeMillis, DEFAULT_TICK_MILLIS);
+    }
+
+    CronScheduler(Executor executor, CommandDispatcher commandDispatcher, LongSupplier clock, long tickMillis) {
+        this.executor = executor;
+        this.commandDispatcher = commandDispatcher;
+        this.clock = clock;
+        this.tickMillis = tickMillis;
+        this.timingWheel = new TimingWheel(Math.floorDiv(clock.getAsLong(), tickMillis));
+    }
+
+    /*
+        Schedules the command of expression with the CommandDispatcher of this scheduler, returns the job id
+     */
+    public int schedule(String expression)
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        CronExpressionDescription cronExpressionDescription =
+                new CronExpressionDescription(new CronExpression(expression));
+        return schedule(cronExpressionDescription.getSchedule(), cronExpressionDescription.getCommand(),
+                this.commandDispatcher);
+    }
+
+    /*
+        Schedules task to run at every fire time of cronSchedule, returns the job id
+     */
+    public int schedule(CronSchedule cronSchedule, Runnable task) {
+        return schedule(cronSchedule, null, (jobId, command, fireTime) -> task.run());
+    }
+
+    private synchronized int schedule(CronSchedule cronSchedule, String command, CommandDispatcher dispatcher) {
+        int jobId = this.nextJobId++;
+        ScheduledJob job = new ScheduledJob(jobId, cronSchedule, command, dispatcher);
+        this.jobs.put(jobId, job);
+        // Fire times of the tick the wheel stands on have been dispatched already
+        enqueue(job, this.timingWheel.currentTick() * this.tickMillis);
+        return jobId;
+    }
+
+    /*
+        Removes the job, returns false if there is no job with this id. A run already handed to the executor is not
+        interrupted.
+     */
+    public synchronized boolean cancel(int jobId) {
+        ScheduledJob job = this.jobs.remove(jobId);
+        if(job == null) {
+            return false;
+        }
+        this.timingWheel.remove(job);
+        return true;
+    }
+
+    public synchronized int size() {
+        return this.jobs.size();
+    }
+
+    /*
+        Starts the driver thread which advances the wheel in step with the clock
+     */
+    public synchronized void start() {
+        if(this.running) {
+            return;
+        }
+        this.running = true;
+        this.driver = new Thread(this::drive, "cron-scheduler");
+        this.driver.setDaemon(true);
+        this.driver.start();
+    }
+
+    /*
+        Asks the driver thread to stop without waiting for it, pending jobs stay registered and the executor is left
+        running
+     */
+    public void shutdown() {
+        Thread thread;
+        synchronized (this) {
+            this.running = false;
+            thread = this.driver;
+        }
+        if(thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /*
+        Waits up to timeout for the driver thread to stop after shutdown.
+        Returns true if it has stopped or was never started
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        Thread thread;
+        synchronized (this) {
+            thread = this.driver;
+        }
+        if(thread == null) {
+            return true;
+        }
+        thread.join(Math.max(unit.toMillis(timeout), 1));
+        return !thread.isAlive();
+    }
+
+    /*
+        Stops the driver thread and waits for it, pending jobs stay registered and the executor is left running.
+        An interrupt during the wait does not cut it short, the interrupt status is restored once the driver has stopped
+     */
+    @Override
+    public void close() {
+        shutdown();
+        Thread thread;
+        synchronized (this) {
+            thread = this.driver;
+        }
+        if(thread == null) {
+            return;
+        }
+        boolean interrupted = false;
+        while(thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException exception) {
+                interrupted = true;
+            }
+        }
+        if(interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drive() {
+        while(this.running && this.driver == Thread.currentThread()) {
+            long nextTickMillis;
+            synchronized (this) {
+                nextTickMillis = (this.timingWheel.currentTick() + 1) * this.tickMillis;
+            }
+            long waitMillis = nextTickMillis - this.clock.getAsLong();
+            if(waitMillis > 0) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(Math.min(waitMillis, MAXIMUM_WAIT_MILLIS)));
+                continue;
+            }
+            advanceTo(this.clock.getAsLong());
+        }
+    }
+
+    /*
+        Expires every tick up to epochMillis and dispatches the jobs due in them. Called by the driver thread, and
+        directly by tests with a fake clock.
+     */
+    void advanceTo(long epochMillis) {
+        List<ScheduledJob> due;
+        synchronized (this) {
+            this.timingWheel.advanceTo(Math.floorDiv(epochMillis, this.tickMillis), this::expire);
+            due = new ArrayList<>(this.expiredJobs);
+            this.expiredJobs.clear();
+        }
+        for(ScheduledJob job : due) {
+            dispatch(job, job.fireTime);
+        }
+    }
+
+    /*
+        Called under lock for a job reaching its deadline: records it for dispatch and moves it to its next fire time
+     */
+    private void expire(ScheduledJob job) {
+        ScheduledJob dispatched = new ScheduledJob(job.id, job.schedule, job.command, job.commandDispatcher);
+        dispatched.fireTime = job.fireTime;
+        this.expiredJobs.add(dispatched);
+        enqueue(job, job.fireTime);
+    }
+
+    private void enqueue(ScheduledJob job, long after) {
+        long fireTime = FireTimeCalculator.nextFireTime(job.schedule, after);
+        if(fireTime == FireTimeCalculator.NO_FIRE_TIME) {
+            this.jobs.remove(job.id);
+            return;
+        }
+        job.fireTime = fireTime;
+        // Rounding up so that a job never fires before its time when tickMillis does not divide fire times
+        job.deadlineTick = Math.floorDiv(fireTime + this.tickMillis - 1, this.tickMillis);
+        this.timingWheel.add(job);
+    }
+
+    private void dispatch(ScheduledJob job, long fireTime) {
+        try {
+            this.executor.execute(() -> {
+                try {
+                    job.commandDispatcher.dispatch(job.id, job.command, fireTime);
+                } catch (Exception exception) {
+                    logger.error("Job {} failed: {}", job.id, exception.getMessage());
+                }
+            });
+        } catch (RuntimeException exception) {
+            // RejectedExecutionException of a saturated or shut down executor should not stop the driver thread
+            logger.error("Job {} could not be dispatched: {}", job.id, exception.getMessage());
+        }
+    }
+}
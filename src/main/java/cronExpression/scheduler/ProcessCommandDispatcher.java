@@ -0,0 +1,14 @@
+package cronExpression.scheduler;
+
+/*
+    Launches the command of a job as a process through /bin/sh -c, as cron does. Output is inherited from this process
+    and the dispatcher does not wait for the command to finish.
+ */
+public class ProcessCommandDispatcher implements CommandDispatcher {
+    private static final String SHELL = "/bin/sh";
+
+    @Override
+    public void dispatch(int jobId, String command, long fireTime) throws Exception {
+        new ProcessBuilder(SHELL, "-c", command).inheritIO().start();
+    }
+}
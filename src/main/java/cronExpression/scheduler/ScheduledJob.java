@@ -0,0 +1,30 @@
+package cronExpression.scheduler;
+
+import cronExpression.parser.CronSchedule;
+
+/*
+    Registration of a schedule with the action to dispatch, doubles as node of the intrusive slot lists of TimingWheel
+ */
+final class ScheduledJob {
+    final int id;
+    final CronSchedule schedule;
+    final String command;
+    final CommandDispatcher commandDispatcher;
+
+    // Fire time the job is currently waiting for and the wheel tick it expires on
+    long fireTime;
+    long deadlineTick;
+
+    // Position in the wheel, level is -1 while the job is not placed
+    ScheduledJob previous;
+    ScheduledJob next;
+    int level = -1;
+    int slot;
+
+    ScheduledJob(int id, CronSchedule schedule, String command, CommandDispatcher commandDispatcher) {
+        this.id = id;
+        this.schedule = schedule;
+        this.command = command;
+        this.commandDispatcher = commandDispatcher;
+    }
+}
@@ -0,0 +1,127 @@
+package cronExpression.scheduler;
+
+import java.util.function.Consumer;
+
+/*
+    Hierarchical timing wheel of four levels with 64 slots each, level L slots span 64^L ticks, hence the wheel covers
+    2^24 ticks (about 31 years of minutes) before falling back to an overflow list.
+    A job is placed on the lowest level whose upper deadline bits match the current tick and moves one level down
+    (cascades) whenever the current tick enters its slot, so every tick touches one slot per level at most and never
+    scans all jobs.
+    Not thread safe, CronScheduler guards it.
+ */
+final class TimingWheel {
+    static final int SLOT_BITS = 6;
+    static final int SLOTS = 1 << SLOT_BITS;
+    static final int LEVELS = 4;
+
+    // Index of the overflow list in heads, it has a single slot
+    private static final int OVERFLOW = LEVELS;
+
+    private final ScheduledJob[][] heads = new ScheduledJob[LEVELS + 1][SLOTS];
+    private long currentTick;
+
+    TimingWheel(long currentTick) {
+        this.currentTick = currentTick;
+    }
+
+    long currentTick() {
+        return this.currentTick;
+    }
+
+    /*
+        Places job to expire on its deadlineTick, deadlines not after the current tick expire on the next tick
+     */
+    void add(ScheduledJob job) {
+        if(job.deadlineTick <= this.currentTick) {
+            job.deadlineTick = this.currentTick + 1;
+        }
+        place(job);
+    }
+
+    void remove(ScheduledJob job) {
+        if(job.level < 0) {
+            return;
+        }
+        if(job.previous != null) {
+            job.previous.next = job.next;
+        } else {
+            this.heads[job.level][job.slot] = job.next;
+        }
+        if(job.next != null) {
+            job.next.previous = job.previous;
+        }
+        job.previous = null;
+        job.next = null;
+        job.level = -1;
+    }
+
+    /*
+        Moves tick by tick up to toTick and hands every job reaching its deadline to expired. Jobs may be added from
+        within expired.
+     */
+    void advanceTo(long toTick, Consumer<ScheduledJob> expired) {
+        while(this.currentTick < toTick) {
+            long tick = ++this.currentTick;
+            if((tick & ((1L << (SLOT_BITS * LEVELS)) - 1)) == 0) {
+                cascade(OVERFLOW, 0);
+            }
+            for(int level = LEVELS - 1; level > 0; level--) {
+                if((tick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level, (int) ((tick >>> (SLOT_BITS * level)) & (SLOTS - 1)));
+                }
+            }
+            ScheduledJob job = detach(0, (int) (tick & (SLOTS - 1)));
+            while(job != null) {
+                ScheduledJob following = job.next;
+                job.previous = null;
+                job.next = null;
+                job.level = -1;
+                expired.accept(job);
+                job = following;
+            }
+        }
+    }
+
+    private void cascade(int level, int slot) {
+        ScheduledJob job = detach(level, slot);
+        while(job != null) {
+            ScheduledJob following = job.next;
+            job.previous = null;
+            job.next = null;
+            place(job);
+            job = following;
+        }
+    }
+
+    private ScheduledJob detach(int level, int slot) {
+        ScheduledJob head = this.heads[level][slot];
+        this.heads[level][slot] = null;
+        return head;
+    }
+
+    /*
+        Lowest level whose bits above it are equal for deadline and current tick, overflow if there is none
+     */
+    private void place(ScheduledJob job) {
+        int level = OVERFLOW;
+        int slot = 0;
+        for(int candidate = 0; candidate < LEVELS; candidate++) {
+            int upperShift = SLOT_BITS * (candidate + 1);
+            if((job.deadlineTick >>> upperShift) == (this.currentTick >>> upperShift)) {
+                level = candidate;
+                slot = (int) ((job.deadlineTick >>> (SLOT_BITS * candidate)) & (SLOTS - 1));
+                break;
+            }
+        }
+        ScheduledJob head = this.heads[level][slot];
+        job.next = head;
+        job.previous = null;
+        if(head != null) {
+            head.previous = job;
+        }
+        this.heads[level][slot] = job;
+        job.level = level;
+        job.slot = slot;
+    }
+}
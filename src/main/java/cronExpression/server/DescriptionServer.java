@@ -0,0 +1,226 @@
+package cronExpression.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import cronExpression.cache.CronDescriptionCache;
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronExpression;
+import cronExpression.parser.CronExpressionDescription;
+import cronExpression.parser.CronSchedule;
+import cronExpression.parser.ValidationResult;
+import cronExpression.schedule.FireTimeCalculator;
+import cronExpression.schedule.ZonedFireTimeCalculator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/*
+    Long running HTTP endpoint serving descriptions, validation and fire times so that callers do not pay JVM start up
+    per expression. Every endpoint takes the expression from the expression query parameter or, for batches, one
+    expression per line of the request body; lines are answered in order on a single streamed response.
+        /describe  description as printed by the command line followed by an empty line, or "error: ${message}"
+        /validate  "valid" or "invalid ${column} ${message}"
+        /next      next fire times after from (epoch milliseconds, default now), count of them (1 to 1000, default
+                   1), in zone (default UTC), one ISO-8601 instant per line
+    Requests run on the given executor, for ex: a fixed pool or virtual threads on Java 21 and later.
+ */
+public class DescriptionServer implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(DescriptionServer.class);
+
+    private static final String EXPRESSION = "expression";
+    private static final String FROM = "from";
+    private static final String COUNT = "count";
+    private static final String ZONE = "zone";
+
+    // Upper bound of count on /next so that a single request can not keep a thread busy indefinitely
+    private static final int MAXIMUM_COUNT = 1000;
+
+    private static final int OK = 200;
+    private static final int BAD_REQUEST = 400;
+    private static final int METHOD_NOT_ALLOWED = 405;
+
+    private final HttpServer httpServer;
+    private final CronDescriptionCache cronDescriptionCache;
+
+    /*
+        Input: 1) address: for ex: new InetSocketAddress(InetAddress.getLoopbackAddress(), 8080), port 0 picks a free one
+               2) executor: runs the requests, the server does not shut it down
+               3) cronDescriptionCache: shared by all requests so that repeated schedules are parsed once
+     */
+    public DescriptionServer(InetSocketAddress address, Executor executor, CronDescriptionCache cronDescriptionCache)
+            throws IOException {
+        this.cronDescriptionCache = cronDescriptionCache;
+        this.httpServer = HttpServer.create(address, 0);
+        this.httpServer.setExecutor(executor);
+        this.httpServer.createContext("/describe", exchange -> serve(exchange, this::describe));
+        this.httpServer.createContext("/validate", exchange -> serve(exchange, this::validate));
+        this.httpServer.createContext("/next", exchange -> serve(exchange, this::next));
+    }
+
+    public void start() {
+        this.httpServer.start();
+        logger.info("Serving on {}", this.httpServer.getAddress());
+    }
+
+    public int getPort() {
+        return this.httpServer.getAddress().getPort();
+    }
+
+    /*
+        Stops accepting requests and waits at most a second for running ones
+     */
+    @Override
+    public void close() {
+        this.httpServer.stop(1);
+    }
+
+    private void describe(String expression, Map<String, String> parameters, Writer out) throws IOException {
+        try {
+            out.write(this.cronDescriptionCache.getDescription(expression));
+            // Empty line between descriptions as in batch mode
+            out.write(System.lineSeparator());
+        } catch (EmptyExpressionException | IncorrectArgumentsException | InvalidInputException exception) {
+            writeError(exception.getMessage(), out);
+        }
+    }
+
+    private void validate(String expression, Map<String, String> parameters, Writer out) throws IOException {
+        ValidationResult validationResult = CronExpressionDescription.validate(expression);
+        if(validationResult.isValid()) {
+            out.write("valid");
+        } else {
+            out.write("invalid " + validationResult.getColumn() + " " + validationResult.getMessage());
+        }
+        out.write(System.lineSeparator());
+    }
+
+    private void next(String expression, Map<String, String> parameters, Writer out) throws IOException {
+        CronSchedule cronSchedule;
+        long fireTime;
+        int count;
+        ZoneId zoneId;
+        try {
+            cronSchedule = this.cronDescriptionCache.getSchedule(
+                    new CronExpressionDescription(new CronExpression(expression)));
+            fireTime = parameters.containsKey(FROM) ? Long.parseLong(parameters.get(FROM)) : System.currentTimeMillis();
+            count = parameters.containsKey(COUNT) ? Integer.parseInt(parameters.get(COUNT)) : 1;
+            if(count < 1 || count > MAXIMUM_COUNT) {
+                throw new NumberFormatException("count must be from 1 to " + MAXIMUM_COUNT + ": " + count);
+            }
+            zoneId = parameters.containsKey(ZONE) ? ZoneId.of(parameters.get(ZONE)) : null;
+        } catch (EmptyExpressionException | IncorrectArgumentsException | InvalidInputException exception) {
+            writeError(exception.getMessage(), out);
+            return;
+        } catch (NumberFormatException | DateTimeException exception) {
+            writeError("Invalid parameter: " + exception.getMessage(), out);
+            return;
+        }
+        for(int i = 0; i < count; i++) {
+            fireTime = zoneId == null
+                    ? FireTimeCalculator.nextFireTime(cronSchedule, fireTime)
+                    : ZonedFireTimeCalculator.nextFireTime(cronSchedule, zoneId, fireTime);
+            if(fireTime == FireTimeCalculator.NO_FIRE_TIME) {
+                break;
+            }
+            out.write(Instant.ofEpochMilli(fireTime).toString());
+            out.write(System.lineSeparator());
+        }
+    }
+
+    /*
+        Answers every expression of the request with action on one streamed response
+     */
+    private static void serve(HttpExchange exchange, ExpressionAction action) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if(!"GET".equals(method) && !"POST".equals(method)) {
+                exchange.sendResponseHeaders(METHOD_NOT_ALLOWED, -1);
+                return;
+            }
+            Map<String, String> parameters;
+            try {
+                parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+            } catch (IllegalArgumentException exception) {
+                // Malformed percent escape in the query
+                exchange.sendResponseHeaders(BAD_REQUEST, -1);
+                return;
+            }
+            String expression = parameters.get(EXPRESSION);
+            BufferedReader body = new BufferedReader(
+                    new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8));
+            String line = expression == null ? nextLine(body) : expression;
+            if(line == null) {
+                exchange.sendResponseHeaders(BAD_REQUEST, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            // Length 0 streams the response in chunks, descriptions are written as soon as they are ready
+            exchange.sendResponseHeaders(OK, 0);
+            Writer out = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8));
+            while(line != null) {
+                action.apply(line, parameters, out);
+                line = expression == null ? nextLine(body) : null;
+            }
+            out.flush();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /*
+        Next line of body that is not blank, or null at the end
+     */
+    private static String nextLine(BufferedReader body) throws IOException {
+        String line;
+        while((line = body.readLine()) != null) {
+            if(!line.trim().isEmpty()) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) throws UnsupportedEncodingException {
+        Map<String, String> parameters = new HashMap<>();
+        if(rawQuery == null) {
+            return parameters;
+        }
+        for(String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            if(equals > 0) {
+                parameters.put(URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8.name()),
+                        URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8.name()));
+            }
+        }
+        return parameters;
+    }
+
+    private static void writeError(String message, Writer out) throws IOException {
+        out.write("error: " + message);
+        out.write(System.lineSeparator());
+    }
+
+    @FunctionalInterface
+    private interface ExpressionAction {
+        void apply(String expression, Map<String, String> parameters, Writer out) throws IOException;
+    }
+}
@@ -0,0 +1,79 @@
+package cronExpression.watch;
+
+import cronExpression.parser.CronExpressionDescription;
+
+import java.nio.file.Path;
+
+/*
+    Change of one schedule line in a watched directory, as emitted by CrontabWatcher.
+    The entry id identifies a line across reloads, it survives lines moving within the file and is kept by CHANGED, so
+    downstream indexes can key their own ids by it.
+ */
+public final class CrontabEvent {
+    public enum Type {
+        // Line appeared, description is the new one
+        ADDED,
+        // Line disappeared, description is the one last emitted for the entry
+        REMOVED,
+        // Line was replaced by another valid line at the same line number, description is the new one
+        CHANGED
+    }
+
+    private final Type type;
+    private final Path file;
+    private final long entryId;
+    private final int lineNumber;
+    private final String line;
+    private final String previousLine;
+    private final CronExpressionDescription description;
+
+    CrontabEvent(Type type, Path file, long entryId, int lineNumber, String line, String previousLine,
+                 CronExpressionDescription description) {
+        this.type = type;
+        this.file = file;
+        this.entryId = entryId;
+        this.lineNumber = lineNumber;
+        this.line = line;
+        this.previousLine = previousLine;
+        this.description = description;
+    }
+
+    public Type getType() {
+        return this.type;
+    }
+
+    public Path getFile() {
+        return this.file;
+    }
+
+    public long getEntryId() {
+        return this.entryId;
+    }
+
+    /*
+        Line number starting at 1, for REMOVED the number the line had before it was removed
+     */
+    public int getLineNumber() {
+        return this.lineNumber;
+    }
+
+    public String getLine() {
+        return this.line;
+    }
+
+    /*
+        Line replaced by a CHANGED event, null for the other types
+     */
+    public String getPreviousLine() {
+        return this.previousLine;
+    }
+
+    public CronExpressionDescription getDescription() {
+        return this.description;
+    }
+
+    @Override
+    public String toString() {
+        return this.type + " " + this.file + ":" + this.lineNumber + " " + this.line;
+    }
+}
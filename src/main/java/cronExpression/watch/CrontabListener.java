@@ -0,0 +1,17 @@
+package cronExpression.watch;
+
+import java.nio.file.Path;
+
+/*
+    Receives the events of a CrontabWatcher, called on the thread reloading the file
+ */
+public interface CrontabListener {
+    void onEvent(CrontabEvent crontabEvent);
+
+    /*
+        Called once for every line that appears and does not parse, the line is not reported again until it changes.
+        Also called with lineNumber 0 when a file (or, after an overflow, the directory) can not be read.
+        Input: file, lineNumber starting at 1 or 0 for the whole file, and error message
+     */
+    default void onError(Path file, int lineNumber, String message) {}
+}
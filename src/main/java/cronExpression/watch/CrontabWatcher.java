@@ -0,0 +1,360 @@
+package cronExpression.watch;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronExpression;
+import cronExpression.parser.CronExpressionDescription;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/*
+    Keeps the schedules of a directory of crontab-like files up to date, one expression per line as accepted by
+    CronExpressionDescription, i.e. five fields followed by command. The user column of system cron.d files is not
+    supported, such lines are reported as errors. Blank lines, lines starting with '#' and NAME=value environment
+    assignments are skipped, as are hidden files and editor backups ending with '~'.
+    When a file changes only its lines are diffed against the previous content by their hashes: lines seen before keep
+    their parsed description (even if they moved), only new lines are parsed, and the difference is reported to the
+    CrontabListener as ADDED, REMOVED and CHANGED events.
+    Call scan once for the initial content, then poll or run to follow changes. A file that can not be read is reported
+    through CrontabListener.onError with line number 0 and keeps its previous lines, the other files carry on.
+ */
+public class CrontabWatcher implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(CrontabWatcher.class);
+
+    private static final char COMMENT = '#';
+    private static final char ASSIGNMENT = '=';
+    private static final char HIDDEN = '.';
+    private static final String BACKUP_SUFFIX = "~";
+
+    private final Path directory;
+    private final CrontabListener listener;
+    private final WatchService watchService;
+
+    // Lines of every loaded file in line order, skipped lines excluded
+    private final Map<Path, List<Entry>> files = new HashMap<>();
+    private long nextEntryId;
+
+    /*
+        Registers directory with a WatchService, nothing is read until scan or the first change
+        Input: directory to watch and listener receiving the events
+     */
+    public CrontabWatcher(Path directory, CrontabListener listener) throws IOException {
+        this.directory = directory;
+        this.listener = listener;
+        this.watchService = directory.getFileSystem().newWatchService();
+        directory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    /*
+        Reloads every file of the directory and drops files that are gone, also used to recover from an overflow of
+        the WatchService. Files failing to load are reported as described for the class, a listener throwing is
+        logged and does not stop the scan. Throws IOException if the directory can not be listed.
+     */
+    public synchronized void scan() throws IOException {
+        Set<Path> present = new LinkedHashSet<>();
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(this.directory)) {
+            for(Path file : directoryStream) {
+                if(isWatched(file)) {
+                    present.add(file);
+                }
+            }
+        }
+        for(Path file : new ArrayList<>(this.files.keySet())) {
+            if(!present.contains(file)) {
+                reloadReporting(file);
+            }
+        }
+        for(Path file : present) {
+            reloadReporting(file);
+        }
+    }
+
+    /*
+        Diffs file against its previous content and emits the events, a missing file removes all its lines.
+        The new content is recorded before the listener is called and every error and event is delivered even if the
+        listener throws; the first RuntimeException thrown by the listener is rethrown afterwards with the later ones
+        suppressed. Throws IOException if file can not be read, its previous lines are kept then.
+     */
+    public synchronized void reload(Path file) throws IOException {
+        List<String> lines;
+        try {
+            lines = Files.isRegularFile(file) ? Files.readAllLines(file, Charset.defaultCharset())
+                    : Collections.<String>emptyList();
+        } catch (NoSuchFileException exception) {
+            lines = Collections.emptyList();
+        }
+        List<Entry> previous = this.files.get(file);
+        List<Entry> failed = new ArrayList<>();
+        List<CrontabEvent> events = new ArrayList<>();
+        List<Entry> current = diff(file, previous == null ? Collections.<Entry>emptyList() : previous, lines, failed,
+                events);
+        if(current.isEmpty()) {
+            this.files.remove(file);
+        } else {
+            this.files.put(file, current);
+        }
+        RuntimeException listenerFailure = null;
+        for(Entry entry : failed) {
+            try {
+                this.listener.onError(file, entry.lineNumber, entry.errorMessage);
+            } catch (RuntimeException exception) {
+                listenerFailure = addFailure(listenerFailure, exception);
+            }
+        }
+        for(CrontabEvent crontabEvent : events) {
+            try {
+                this.listener.onEvent(crontabEvent);
+            } catch (RuntimeException exception) {
+                listenerFailure = addFailure(listenerFailure, exception);
+            }
+        }
+        if(listenerFailure != null) {
+            throw listenerFailure;
+        }
+    }
+
+    /*
+        Waits up to timeout for changes in the directory and reloads the changed files, failures are handled as in scan.
+        Returns false if nothing changed within timeout
+     */
+    public boolean poll(long timeout, TimeUnit unit) throws InterruptedException {
+        WatchKey watchKey = this.watchService.poll(timeout, unit);
+        if(watchKey == null) {
+            return false;
+        }
+        process(watchKey);
+        return true;
+    }
+
+    /*
+        Follows changes until the watcher is closed or the thread is interrupted, failures are handled as in scan
+     */
+    public void run() {
+        try {
+            while(true) {
+                process(this.watchService.take());
+            }
+        } catch (ClosedWatchServiceException exception) {
+            // Closed, ends the loop
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public synchronized int size() {
+        int size = 0;
+        for(List<Entry> entries : this.files.values()) {
+            for(Entry entry : entries) {
+                if(entry.description != null) {
+                    size++;
+                }
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.watchService.close();
+    }
+
+    private void process(WatchKey watchKey) {
+        // Editors emit several events per save, every file is reloaded once per key
+        Set<Path> changed = new LinkedHashSet<>();
+        boolean overflow = false;
+        for(WatchEvent<?> watchEvent : watchKey.pollEvents()) {
+            if(watchEvent.kind() == StandardWatchEventKinds.OVERFLOW) {
+                overflow = true;
+            } else {
+                Path file = this.directory.resolve((Path) watchEvent.context());
+                if(isWatched(file)) {
+                    changed.add(file);
+                }
+            }
+        }
+        watchKey.reset();
+        if(overflow) {
+            try {
+                scan();
+            } catch (IOException exception) {
+                reportFailure(this.directory, exception);
+            }
+            return;
+        }
+        for(Path file : changed) {
+            reloadReporting(file);
+        }
+    }
+
+    /*
+        Reloads file, reporting a failure to read it to the listener and logging a listener that throws
+     */
+    private synchronized void reloadReporting(Path file) {
+        try {
+            reload(file);
+        } catch (IOException exception) {
+            reportFailure(file, exception);
+        } catch (RuntimeException exception) {
+            logger.error("Listener failed on changes of {}", file, exception);
+        }
+    }
+
+    private void reportFailure(Path file, IOException failure) {
+        try {
+            this.listener.onError(file, 0, failure.toString());
+        } catch (RuntimeException exception) {
+            logger.error("Listener failed on error of {}", file, exception);
+        }
+    }
+
+    private static RuntimeException addFailure(RuntimeException first, RuntimeException exception) {
+        if(first == null) {
+            return exception;
+        }
+        first.addSuppressed(exception);
+        return first;
+    }
+
+    /*
+        Matches lines against the previous entries by content, unmatched previous entries are removed and unmatched
+        lines parsed. A removed and an added line at the same line number become one CHANGED event.
+        Returns the new entries of file, new lines that do not parse are added to failed and the events to events
+     */
+    private List<Entry> diff(Path file, List<Entry> previous, List<String> lines, List<Entry> failed,
+                             List<CrontabEvent> events) {
+        Map<String, ArrayDeque<Entry>> previousByLine = new HashMap<>();
+        for(Entry entry : previous) {
+            previousByLine.computeIfAbsent(entry.line, line -> new ArrayDeque<>()).add(entry);
+        }
+        List<Entry> current = new ArrayList<>();
+        List<Entry> added = new ArrayList<>();
+        for(int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if(isSkipped(line)) {
+                continue;
+            }
+            ArrayDeque<Entry> unchanged = previousByLine.get(line);
+            Entry entry = unchanged == null ? null : unchanged.poll();
+            if(entry == null) {
+                entry = parse(line);
+                added.add(entry);
+            }
+            entry.lineNumber = i + 1;
+            current.add(entry);
+        }
+
+        Map<Integer, Entry> removedByLineNumber = new HashMap<>();
+        for(ArrayDeque<Entry> entries : previousByLine.values()) {
+            for(Entry entry : entries) {
+                if(entry.description != null) {
+                    removedByLineNumber.put(entry.lineNumber, entry);
+                }
+            }
+        }
+        List<CrontabEvent> changes = new ArrayList<>();
+        for(Entry entry : added) {
+            if(entry.description == null) {
+                failed.add(entry);
+                continue;
+            }
+            Entry replaced = removedByLineNumber.remove(entry.lineNumber);
+            if(replaced != null) {
+                entry.id = replaced.id;
+                changes.add(new CrontabEvent(CrontabEvent.Type.CHANGED, file, entry.id, entry.lineNumber, entry.line,
+                        replaced.line, entry.description));
+            } else {
+                entry.id = this.nextEntryId++;
+                changes.add(new CrontabEvent(CrontabEvent.Type.ADDED, file, entry.id, entry.lineNumber, entry.line,
+                        null, entry.description));
+            }
+        }
+        List<Entry> removed = new ArrayList<>(removedByLineNumber.values());
+        removed.sort((first, second) -> Integer.compare(first.lineNumber, second.lineNumber));
+        for(Entry entry : removed) {
+            events.add(new CrontabEvent(CrontabEvent.Type.REMOVED, file, entry.id, entry.lineNumber, entry.line, null,
+                    entry.description));
+        }
+        events.addAll(changes);
+        return current;
+    }
+
+    /*
+        Entry of line with the schedule compiled, or with the error message if it does not parse
+     */
+    private static Entry parse(String line) {
+        try {
+            CronExpressionDescription cronExpressionDescription = new CronExpressionDescription(new CronExpression(line));
+            cronExpressionDescription.getSchedule();
+            return new Entry(line, cronExpressionDescription, null);
+        } catch (EmptyExpressionException | IncorrectArgumentsException | InvalidInputException exception) {
+            return new Entry(line, null, exception.getMessage());
+        }
+    }
+
+    private static boolean isWatched(Path file) {
+        String name = file.getFileName().toString();
+        return !name.isEmpty() && name.charAt(0) != HIDDEN && !name.endsWith(BACKUP_SUFFIX);
+    }
+
+    /*
+        True for blank lines, comments and environment assignments such as SHELL=/bin/sh, i.e. lines whose first word
+        contains '='
+     */
+    private static boolean isSkipped(String line) {
+        int start = 0;
+        while(start < line.length() && line.charAt(start) <= ' ') {
+            start++;
+        }
+        if(start == line.length() || line.charAt(start) == COMMENT) {
+            return true;
+        }
+        for(int i = start; i < line.length() && line.charAt(i) > ' '; i++) {
+            if(line.charAt(i) == ASSIGNMENT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+        One non skipped line of a file, description is null for lines that do not parse and which therefore never
+        produce events
+     */
+    private static final class Entry {
+        private final String line;
+        private final CronExpressionDescription description;
+        private final String errorMessage;
+        private long id;
+        private int lineNumber;
+
+        private Entry(String line, CronExpressionDescription description, String errorMessage) {
+            this.line = line;
+            this.description = description;
+            this.errorMessage = errorMessage;
+        }
+    }
+}
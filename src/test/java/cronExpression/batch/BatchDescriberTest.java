@@ -0,0 +1,60 @@
+package cronExpression.batch;
+
+import cronExpression.cache.CronDescriptionCache;
+import cronExpression.enums.OutputFieldName;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+import static cronExpression.errorMessages.ErrorMessages.INCORRECT_ARGUMENTS;
+import static cronExpression.errorMessages.ErrorMessages.INVALID_RANGE;
+
+class BatchDescriberTest {
+
+    @Test
+    void testDescribeAllContinuesAfterErrors() throws IOException {
+        /* Given */
+        String input = "# nightly jobs" + System.lineSeparator()
+                + "*/30 20 1-3 3 2-3 /usr" + System.lineSeparator()
+                + System.lineSeparator()
+                + "*/15 59 1,15 * 1-5 /usr/bin/find" + System.lineSeparator()
+                + "*/15 0 1,15" + System.lineSeparator()
+                + "0 20 1-3 3 2-3 /bin";
+        BatchDescriber batchDescriber = new BatchDescriber(new CronDescriptionCache(16));
+        StringWriter writer = new StringWriter();
+        List<String> errors = new ArrayList<>();
+
+        /* When */
+        long failures = batchDescriber.describeAll(new BufferedReader(new StringReader(input)), writer,
+                (message, lineNumber) -> errors.add(lineNumber + ": " + message));
+
+        /* Then */
+        String expected = "minute        0 30" + System.lineSeparator() +
+                "hour          20" + System.lineSeparator() +
+                "day of month  1 2 3" + System.lineSeparator() +
+                "month         3" + System.lineSeparator() +
+                "day of week   2 3" + System.lineSeparator() +
+                "command       /usr" + System.lineSeparator() +
+                System.lineSeparator() +
+                "minute        0" + System.lineSeparator() +
+                "hour          20" + System.lineSeparator() +
+                "day of month  1 2 3" + System.lineSeparator() +
+                "month         3" + System.lineSeparator() +
+                "day of week   2 3" + System.lineSeparator() +
+                "command       /bin" + System.lineSeparator() +
+                System.lineSeparator();
+        Assertions.assertEquals(expected, writer.toString());
+        Assertions.assertEquals(2, failures);
+        Assertions.assertEquals(2, errors.size());
+        Assertions.assertEquals("4: " + MessageFormat.format(INVALID_RANGE, OutputFieldName.HOUR.getName(),
+                OutputFieldName.HOUR.getBegin(), OutputFieldName.HOUR.getEnd()), errors.get(0));
+        Assertions.assertEquals("5: " + INCORRECT_ARGUMENTS, errors.get(1));
+    }
+}
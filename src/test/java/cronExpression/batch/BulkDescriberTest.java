@@ -0,0 +1,87 @@
+package cronExpression.batch;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronExpression;
+import cronExpression.parser.CronExpressionDescription;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static cronExpression.errorMessages.ErrorMessages.EMPTY_EXPRESSION;
+import static cronExpression.errorMessages.ErrorMessages.INCORRECT_ARGUMENTS;
+
+class BulkDescriberTest {
+
+    private static String[] corpus() {
+        return IntStream.range(0, 5000)
+                .mapToObj(i -> i % 7 == 0 ? "*/15 0 1,15" : (i % 60) + " " + (i % 24) + " * * 1-5 /job" + i)
+                .toArray(String[]::new);
+    }
+
+    private static void assertResults(String[] expressions, List<DescriptionResult> results)
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        Assertions.assertEquals(expressions.length, results.size());
+        for(int i = 0; i < expressions.length; i++) {
+            DescriptionResult result = results.get(i);
+            Assertions.assertEquals(expressions[i], result.getExpression());
+            if(i % 7 == 0) {
+                Assertions.assertFalse(result.isValid());
+                Assertions.assertEquals(INCORRECT_ARGUMENTS, result.getErrorMessage());
+            } else {
+                Assertions.assertTrue(result.isValid());
+                Assertions.assertEquals(
+                        new CronExpressionDescription(new CronExpression(expressions[i])).getDescription(),
+                        result.getDescription());
+            }
+        }
+    }
+
+    @Test
+    void testDescribeAllOnForkJoinPool()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        String[] expressions = corpus();
+
+        /* When */
+        List<DescriptionResult> results = new BulkDescriber().describeAll(expressions);
+
+        /* Then */
+        assertResults(expressions, results);
+    }
+
+    @Test
+    void testDescribeAllOnExecutor()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        String[] expressions = corpus();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+        try {
+            /* When */
+            List<DescriptionResult> results = new BulkDescriber(executorService, 100)
+                    .describeAll(Arrays.stream(expressions));
+
+            /* Then */
+            assertResults(expressions, results);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void testDescribeAllIterable() {
+        /* When */
+        List<DescriptionResult> results = new BulkDescriber().describeAll(Arrays.asList(" ", "0 0 * * * /usr"));
+
+        /* Then */
+        Assertions.assertEquals(EMPTY_EXPRESSION, results.get(0).getErrorMessage());
+        Assertions.assertTrue(results.get(1).isValid());
+    }
+}
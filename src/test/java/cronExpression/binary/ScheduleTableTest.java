@@ -0,0 +1,113 @@
+package cronExpression.binary;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronExpression;
+import cronExpression.parser.CronExpressionDescription;
+import cronExpression.parser.CronSchedule;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+class ScheduleTableTest {
+
+    private static final String[] EXPRESSIONS = {
+            "*/15 0 1,15 * 1-5 /usr/bin/find", "0 0 * * * /usr/bin/ls", "59 23 31 12 * /tmp/ünïcødé",
+            "0 */6 * 3-5 SUN /bin/true", "0 0 */2 * 1-5 backup"
+    };
+
+    private static ScheduleTableWriter writer(List<CronExpressionDescription> descriptions)
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        ScheduleTableWriter scheduleTableWriter = new ScheduleTableWriter();
+        for(String expression : EXPRESSIONS) {
+            CronExpressionDescription cronExpressionDescription =
+                    new CronExpressionDescription(new CronExpression(expression));
+            descriptions.add(cronExpressionDescription);
+            scheduleTableWriter.add(cronExpressionDescription.getSchedule(), cronExpressionDescription.getCommand());
+        }
+        return scheduleTableWriter.add(descriptions.get(0).getSchedule(), null);
+    }
+
+    private static void assertTable(List<CronExpressionDescription> descriptions, ScheduleTable scheduleTable)
+            throws InvalidInputException {
+        Assertions.assertEquals(descriptions.size() + 1, scheduleTable.size());
+        for(int i = 0; i < descriptions.size(); i++) {
+            CronSchedule cronSchedule = descriptions.get(i).getSchedule();
+            Assertions.assertEquals(cronSchedule, scheduleTable.getSchedule(i));
+            Assertions.assertEquals(descriptions.get(i).getCommand(), scheduleTable.getCommand(i));
+            for(int minute = 0; minute < 60; minute += 7) {
+                for(int day = 1; day <= 31; day += 3) {
+                    for(int dayOfWeek = 0; dayOfWeek < 7; dayOfWeek++) {
+                        Assertions.assertEquals(cronSchedule.matches(minute, 0, day, 12, dayOfWeek),
+                                scheduleTable.matches(i, minute, 0, day, 12, dayOfWeek));
+                    }
+                }
+            }
+        }
+        Assertions.assertEquals("", scheduleTable.getCommand(descriptions.size()));
+    }
+
+    @Test
+    void testByteBufferRoundTrip() throws EmptyExpressionException, IncorrectArgumentsException,
+            InvalidInputException {
+        /* Given */
+        List<CronExpressionDescription> descriptions = new ArrayList<>();
+        ByteBuffer buffer = writer(descriptions).toByteBuffer();
+
+        /* When */
+        ScheduleTable scheduleTable = ScheduleTable.wrap(buffer);
+
+        /* Then */
+        assertTable(descriptions, scheduleTable);
+        Assertions.assertEquals(0, buffer.position());
+        List<Integer> matches = new ArrayList<>();
+        scheduleTable.forEachMatch(0, 0, 1, 12, 1, matches::add);
+        // */15 0 1,15 * 1-5, 0 0 * * *, 0 0 */2 * 1-5 and the copy of the first one
+        Assertions.assertEquals(4, matches.size());
+    }
+
+    @Test
+    void testMappedFile(@TempDir Path directory) throws IOException, EmptyExpressionException,
+            IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        List<CronExpressionDescription> descriptions = new ArrayList<>();
+        Path file = directory.resolve("schedules.bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            writer(descriptions).writeTo(channel);
+        }
+
+        /* When */
+        ScheduleTable scheduleTable;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            scheduleTable = ScheduleTable.map(channel);
+        }
+
+        /* Then */
+        assertTable(descriptions, scheduleTable);
+    }
+
+    @Test
+    void testInvalidTables() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        ByteBuffer buffer = writer(new ArrayList<>()).toByteBuffer();
+        ByteBuffer wrongVersion = ByteBuffer.allocate(buffer.remaining()).put(buffer.duplicate());
+        wrongVersion.putShort(4, (short) 2).flip();
+        ByteBuffer truncated = buffer.duplicate();
+        truncated.limit(ScheduleTable.HEADER_BYTES + ScheduleTable.RECORD_BYTES);
+
+        /* Then */
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ScheduleTable.wrap(ByteBuffer.allocate(16)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ScheduleTable.wrap(wrongVersion));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ScheduleTable.wrap(truncated));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> ScheduleTable.wrap(buffer).getSchedule(6));
+    }
+}
@@ -0,0 +1,91 @@
+package cronExpression.cache;
+
+import cronExpression.enums.OutputFieldName;
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronExpression;
+import cronExpression.parser.CronExpressionDescription;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.text.MessageFormat;
+
+import static cronExpression.errorMessages.ErrorMessages.INVALID_RANGE;
+
+class CronDescriptionCacheTest {
+
+    @Test
+    void testCommandsShareCachedSchedule()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        CronDescriptionCache cache = new CronDescriptionCache(100);
+        String expression = "*/15 0 1,15 * 1-5 /usr/bin/find";
+
+        /* When */
+        String first = cache.getDescription(expression);
+        String second = cache.getDescription("*/15 0 1,15 * 1-5 /usr/bin/ls");
+
+        /* Then */
+        Assertions.assertEquals(new CronExpressionDescription(new CronExpression(expression)).getDescription(), first);
+        Assertions.assertTrue(second.endsWith("command       /usr/bin/ls" + System.lineSeparator()));
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertSame(
+                cache.getSchedule(new CronExpressionDescription(new CronExpression(expression))),
+                cache.getSchedule(new CronExpressionDescription(new CronExpression("*/15 0 1,15 * 1-5 /bin"))));
+    }
+
+    @Test
+    void testInvalidScheduleIsCached() {
+        /* Given */
+        CronDescriptionCache cache = new CronDescriptionCache(100);
+
+        for(int i = 0; i < 2; i++) {
+            /* When */
+            Exception exception = Assertions.assertThrows(InvalidInputException.class,
+                    () -> cache.getDescription("*/15 59 1,15 * 1-5 /usr/bin/find"));
+
+            /* Then */
+            Assertions.assertEquals(
+                    MessageFormat.format(
+                            INVALID_RANGE, OutputFieldName.HOUR.getName(),
+                            OutputFieldName.HOUR.getBegin(), OutputFieldName.HOUR.getEnd()
+                    ), exception.getMessage());
+        }
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        CronDescriptionCache cache = new CronDescriptionCache(2, 1);
+
+        /* When */
+        cache.getDescription("0 * * * * /usr");
+        cache.getDescription("1 * * * * /usr");
+        cache.getDescription("0 * * * * /usr");
+        cache.getDescription("2 * * * * /usr");
+        cache.getDescription("0 * * * * /usr");
+
+        /* Then */
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(1, cache.getEvictionCount());
+        Assertions.assertEquals(2, cache.getHitCount());
+        Assertions.assertEquals(3, cache.getMissCount());
+
+        /* When */
+        cache.clear();
+
+        /* Then */
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testInvalidSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CronDescriptionCache(0));
+    }
+}
@@ -0,0 +1,127 @@
+package cronExpression.metrics;
+
+import cronExpression.cache.CronDescriptionCache;
+import cronExpression.enums.OutputFieldName;
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronExpressionDescription;
+import cronExpression.schedule.FireTimeCalculator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+
+class LongAdderMetricsRegistryTest {
+    private LongAdderMetricsRegistry registry;
+
+    @BeforeEach
+    void install() {
+        this.registry = new LongAdderMetricsRegistry();
+        Metrics.install(this.registry);
+    }
+
+    @AfterEach
+    void disable() {
+        Metrics.disable();
+    }
+
+    @Test
+    void testParsingAndCacheEvents()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        CronDescriptionCache cronDescriptionCache = new CronDescriptionCache(16);
+
+        /* When */
+        cronDescriptionCache.getDescription("*/15 0 1,15 * 1-5 /usr/bin/find");
+        cronDescriptionCache.getDescription("*/15 0 1,15 * 1-5 /usr/bin/ls");
+
+        /* Then */
+        Assertions.assertEquals(2, this.registry.getCount(Counter.EXPRESSIONS_CREATED));
+        Assertions.assertEquals(1, this.registry.getCount(Counter.CACHE_HITS));
+        Assertions.assertEquals(1, this.registry.getCount(Counter.CACHE_MISSES));
+        Assertions.assertEquals(2, this.registry.getCount(Counter.ASTERISK_ELEMENTS));
+        Assertions.assertEquals(1, this.registry.getCount(Counter.STEP_ELEMENTS));
+        Assertions.assertEquals(1, this.registry.getCount(Counter.LIST_FIELDS));
+        Assertions.assertEquals(1, this.registry.getCount(Counter.RANGE_ELEMENTS));
+        Assertions.assertEquals(3, this.registry.getCount(Counter.VALUE_ELEMENTS));
+        Assertions.assertEquals(1, this.registry.getLatencyCount(Latency.COMPILE));
+        Assertions.assertEquals(1, this.registry.getLatencyCount(Latency.CACHE_LOAD));
+    }
+
+    @Test
+    void testValidationFailuresPerField() {
+        /* When */
+        CronExpressionDescription.validate("* 24 * * * /usr");
+        CronExpressionDescription.validate("* * * 13 * /usr");
+        CronExpressionDescription.validate("* * * 1-13 * /usr");
+
+        /* Then */
+        Assertions.assertEquals(3, this.registry.getCount(Counter.VALIDATION_FAILURES));
+        Assertions.assertEquals(1, this.registry.getFailureCount(OutputFieldName.HOUR));
+        Assertions.assertEquals(2, this.registry.getFailureCount(OutputFieldName.MONTH));
+        Assertions.assertEquals(0, this.registry.getFailureCount(OutputFieldName.MINUTE));
+    }
+
+    @Test
+    void testLatencyHistogram() {
+        /* When */
+        this.registry.recordNanos(Latency.COMPILE, 0);
+        this.registry.recordNanos(Latency.COMPILE, 1);
+        this.registry.recordNanos(Latency.COMPILE, 1000);
+        this.registry.recordNanos(Latency.COMPILE, Long.MAX_VALUE);
+
+        /* Then */
+        long[] histogram = this.registry.getLatencyHistogram(Latency.COMPILE);
+        Assertions.assertEquals(1, histogram[0]);
+        Assertions.assertEquals(1, histogram[1]);
+        // 512 <= 1000 < 1024
+        Assertions.assertEquals(1, histogram[10]);
+        Assertions.assertEquals(1, histogram[63]);
+        Assertions.assertEquals(4, this.registry.getLatencyCount(Latency.COMPILE));
+    }
+
+    @Test
+    void testDisabledRegistryRecordsNothing() throws EmptyExpressionException, IncorrectArgumentsException,
+            InvalidInputException {
+        /* Given */
+        Metrics.disable();
+
+        /* When */
+        FireTimeCalculator.nextFireTime(CronExpressionDescription.validate("* * * * * /usr").getSchedule(), 0L);
+
+        /* Then */
+        Assertions.assertFalse(Metrics.registry().isEnabled());
+        Assertions.assertEquals(0, this.registry.getCount(Counter.FIRE_TIME_EVALUATIONS));
+        Assertions.assertEquals(0, this.registry.getCount(Counter.EXPRESSIONS_CREATED));
+    }
+
+    @Test
+    void testMBean() throws JMException {
+        /* Given */
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = this.registry.registerMBean();
+        try {
+            /* When */
+            FireTimeCalculator.nextFireTime(CronExpressionDescription.validate("* * * * * /usr").getSchedule(), 0L);
+            TabularData counters = (TabularData) mBeanServer.getAttribute(objectName, "Counters");
+
+            /* Then */
+            Assertions.assertEquals(1L, counters.get(new Object[] {Counter.FIRE_TIME_EVALUATIONS.name()}).get("value"));
+
+            /* When */
+            mBeanServer.invoke(objectName, "reset", new Object[0], new String[0]);
+
+            /* Then */
+            Assertions.assertEquals(0, this.registry.getCount(Counter.FIRE_TIME_EVALUATIONS));
+        } finally {
+            mBeanServer.unregisterMBean(objectName);
+        }
+    }
+}
@@ -88,6 +88,63 @@ class CronExpressionDescriptionTest {
         Assertions.assertEquals(expressionDescription, description);
     }
 
+    @Test
+    void testDescriptionIsSortedAndDeduplicated()
+            throws InvalidInputException, EmptyExpressionException, IncorrectArgumentsException {
+        /* Given */
+        CronExpression cronExpression = new CronExpression("*/20 5,5 15,1 */4 0 /usr");
+        CronExpressionDescription cronExpressionDescription = new CronExpressionDescription(cronExpression);
+
+        String expressionDescription = "minute        0 20 40" + System.lineSeparator() +
+                "hour          5" + System.lineSeparator() +
+                "day of month  1 15" + System.lineSeparator() +
+                "month         1 5 9" + System.lineSeparator() +
+                "day of week   0" + System.lineSeparator() +
+                "command       /usr" + System.lineSeparator();
+
+        /* When */
+        String description = cronExpressionDescription.getDescription();
+
+        /* Then */
+        Assertions.assertEquals(expressionDescription, description);
+        Assertions.assertSame(cronExpressionDescription.getSchedule(), cronExpressionDescription.getSchedule());
+        Assertions.assertEquals("/usr", cronExpressionDescription.getCommand());
+    }
+
+    @Test
+    void testRunsOfWhiteSpaceBetweenFields()
+            throws InvalidInputException, EmptyExpressionException, IncorrectArgumentsException {
+        /* Given */
+        CronExpressionDescription spaced = new CronExpressionDescription(
+                new CronExpression("*/15\t0   1,15 *\t\t1-5  /usr/bin/find"));
+        CronExpressionDescription single = new CronExpressionDescription(
+                new CronExpression("*/15 0 1,15 * 1-5 /usr/bin/find"));
+
+        /* Then */
+        Assertions.assertEquals(single.getDescription(), spaced.getDescription());
+        Assertions.assertEquals("*/15 0 1,15 * 1-5", spaced.getScheduleKey());
+        Assertions.assertEquals(single.getScheduleKey(), spaced.getScheduleKey());
+        Assertions.assertEquals("/usr/bin/find", spaced.getCommand());
+    }
+
+    @Test
+    void testNonPositiveStep() throws EmptyExpressionException, IncorrectArgumentsException {
+        /* Given */
+        CronExpressionDescription cronExpressionDescription =
+                new CronExpressionDescription(new CronExpression("*/0 20 1-3 3 2-3 /usr"));
+
+        /* When */
+        Exception exception = Assertions.assertThrows(InvalidInputException.class,
+                cronExpressionDescription::getDescription);
+
+        /* Then */
+        Assertions.assertEquals(
+                MessageFormat.format(
+                        INVALID_RANGE, OutputFieldName.MINUTE.getName(), OutputFieldName.MINUTE.getBegin(),
+                        OutputFieldName.MINUTE.getEnd()
+                ), exception.getMessage());
+    }
+
     @Test
     void testExceptionsInGetDescription() throws EmptyExpressionException, IncorrectArgumentsException {
         /* Given */
@@ -315,4 +372,138 @@ class CronExpressionDescriptionTest {
                         OutputFieldName.DAY_OF_WEEK.getEnd()
                 ), exception.getMessage());
     }
+
+    @Test
+    void testListsOfRangesAndSteps()
+            throws InvalidInputException, EmptyExpressionException, IncorrectArgumentsException {
+        /* Given */
+        CronExpression cronExpression = new CronExpression("0-30/5,45,10 */8,20 1,10,20,10 1-10/3,12 4/1 /usr");
+        CronExpressionDescription cronExpressionDescription = new CronExpressionDescription(cronExpression);
+
+        /* When */
+        String description = cronExpressionDescription.getDescription();
+
+        /* Then */
+        String expressionDescription = "minute        0 5 10 15 20 25 30 45" + System.lineSeparator() +
+                "hour          0 8 16 20" + System.lineSeparator() +
+                "day of month  1 10 20" + System.lineSeparator() +
+                "month         1 4 7 10 12" + System.lineSeparator() +
+                "day of week   0 4 5 6" + System.lineSeparator() +
+                "command       /usr" + System.lineSeparator();
+        Assertions.assertEquals(expressionDescription, description);
+    }
+
+    @Test
+    void testInvalidListElements() throws EmptyExpressionException, IncorrectArgumentsException {
+        /* Given */
+        String[] invalidHours = {"1,,2", "1,", ",1", "1-5/0", "1-5/A", "*/2/3", "1,**", "1,25", "2-30/2,4"};
+
+        for(String hours : invalidHours) {
+            CronExpressionDescription cronExpressionDescription =
+                    new CronExpressionDescription(new CronExpression("0 " + hours + " * * * /usr"));
+
+            /* When */
+            Exception exception = Assertions.assertThrows(InvalidInputException.class,
+                    cronExpressionDescription::getDescription, hours);
+
+            /* Then */
+            Assertions.assertTrue(exception.getMessage().contains(OutputFieldName.HOUR.getName()), hours);
+        }
+    }
+
+    @Test
+    void testLongListIsLinear()
+            throws InvalidInputException, EmptyExpressionException, IncorrectArgumentsException {
+        /* Given */
+        StringBuilder minutes = new StringBuilder("0");
+        for(int i = 1; i < 10_000; i++) {
+            minutes.append(',').append(i % 60);
+        }
+        CronExpressionDescription cronExpressionDescription =
+                new CronExpressionDescription(new CronExpression(minutes + " 0 1 1 0 /usr"));
+
+        /* When */
+        CronSchedule cronSchedule = cronExpressionDescription.getSchedule();
+
+        /* Then */
+        Assertions.assertEquals(CronSchedule.fullMask(OutputFieldName.MINUTE), cronSchedule.getMinutes());
+    }
+
+    @Test
+    void testMonthAndWeekdayAliases()
+            throws InvalidInputException, EmptyExpressionException, IncorrectArgumentsException {
+        /* Given */
+        CronExpression cronExpression = new CronExpression("0 9 * jan-MAR,Dec MON-fri,7 /usr");
+        CronExpressionDescription cronExpressionDescription = new CronExpressionDescription(cronExpression);
+
+        /* When */
+        CronSchedule cronSchedule = cronExpressionDescription.getSchedule();
+
+        /* Then */
+        Assertions.assertEquals(0b1_0000_0000_1110, cronSchedule.getMonths());
+        Assertions.assertEquals(0b011_1111, cronSchedule.getDaysOfWeek());
+        Assertions.assertEquals(cronSchedule,
+                new CronExpressionDescription(new CronExpression("0 9 * 1-3,12 0-5 /usr")).getSchedule());
+    }
+
+    @Test
+    void testSevenIsSunday()
+            throws InvalidInputException, EmptyExpressionException, IncorrectArgumentsException {
+        /* Given */
+        String[] expressions = {"0 0 * * 7 /usr", "0 0 * * 5-7 /usr", "0 0 * * SUN,FRI-SAT /usr"};
+        int[] daysOfWeek = {0b1, 0b110_0001, 0b110_0001};
+
+        for(int i = 0; i < expressions.length; i++) {
+            /* When */
+            CronSchedule cronSchedule =
+                    new CronExpressionDescription(new CronExpression(expressions[i])).getSchedule();
+
+            /* Then */
+            Assertions.assertEquals(daysOfWeek[i], cronSchedule.getDaysOfWeek(), expressions[i]);
+        }
+    }
+
+    @Test
+    void testInvalidAliases() throws EmptyExpressionException, IncorrectArgumentsException {
+        /* Given */
+        String[] expressions = {"JAN * * * * /usr", "0 0 * MON * /usr", "0 0 * * JAN /usr", "0 0 * JANUARY * /usr",
+                "0 0 * J4N * /usr", "0 0 * * 8 /usr", "0 0 * * 3-8 /usr"};
+
+        for(String expression : expressions) {
+            CronExpressionDescription cronExpressionDescription =
+                    new CronExpressionDescription(new CronExpression(expression));
+
+            /* Then */
+            Assertions.assertThrows(InvalidInputException.class, cronExpressionDescription::getSchedule, expression);
+        }
+    }
+
+    @Test
+    void testMacros() throws InvalidInputException, EmptyExpressionException, IncorrectArgumentsException {
+        /* Given */
+        String[][] macros = {
+                {"@yearly", "0 0 1 1 *"}, {"@Annually", "0 0 1 1 *"}, {"@monthly", "0 0 1 * *"},
+                {"@weekly", "0 0 * * 0"}, {"@DAILY", "0 0 * * *"}, {"@midnight", "0 0 * * *"},
+                {"@hourly", "0 * * * *"}
+        };
+
+        for(String[] macro : macros) {
+            /* When */
+            CronExpressionDescription cronExpressionDescription =
+                    new CronExpressionDescription(new CronExpression(macro[0] + "\t/usr/bin/find"));
+
+            /* Then */
+            Assertions.assertEquals(macro[1], cronExpressionDescription.getScheduleKey());
+            Assertions.assertEquals("/usr/bin/find", cronExpressionDescription.getCommand());
+            Assertions.assertEquals(
+                    new CronExpressionDescription(new CronExpression(macro[1] + " /usr/bin/find")).getDescription(),
+                    cronExpressionDescription.getDescription());
+        }
+        Assertions.assertThrows(IncorrectArgumentsException.class,
+                () -> new CronExpressionDescription(new CronExpression("@reboot /usr/bin/find")));
+        Assertions.assertThrows(IncorrectArgumentsException.class,
+                () -> new CronExpressionDescription(new CronExpression("@daily")));
+        Assertions.assertThrows(IncorrectArgumentsException.class,
+                () -> new CronExpressionDescription(new CronExpression("@daily /usr /usr")));
+    }
 }
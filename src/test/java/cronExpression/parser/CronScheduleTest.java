@@ -0,0 +1,77 @@
+package cronExpression.parser;
+
+import cronExpression.enums.OutputFieldName;
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static cronExpression.parser.CronSchedules.compile;
+
+class CronScheduleTest {
+
+    @Test
+    void testMasksOfCompiledSchedule()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* When */
+        CronSchedule cronSchedule = compile("*/15 0 1,15 * 1-5 /usr/bin/find");
+
+        /* Then */
+        Assertions.assertEquals((1L) | (1L << 15) | (1L << 30) | (1L << 45), cronSchedule.getMinutes());
+        Assertions.assertEquals(1, cronSchedule.getHours());
+        Assertions.assertEquals((1 << 1) | (1 << 15), cronSchedule.getDaysOfMonth());
+        Assertions.assertEquals(CronSchedule.fullMask(OutputFieldName.MONTH), cronSchedule.getMonths());
+        Assertions.assertEquals(CronSchedule.rangeMask(1, 5), cronSchedule.getDaysOfWeek());
+        Assertions.assertFalse(cronSchedule.isDayOfMonthAsterisk());
+        Assertions.assertFalse(cronSchedule.isDayOfWeekAsterisk());
+        Assertions.assertTrue(cronSchedule.contains(OutputFieldName.MINUTE, 45));
+        Assertions.assertFalse(cronSchedule.contains(OutputFieldName.MINUTE, 46));
+    }
+
+    @Test
+    void testMatches() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        CronSchedule cronSchedule = compile("30 12 * * 1-5 /usr");
+
+        /* Then */
+        Assertions.assertTrue(cronSchedule.matches(30, 12, 9, 3, 1));
+        Assertions.assertFalse(cronSchedule.matches(30, 12, 9, 3, 0));
+        Assertions.assertFalse(cronSchedule.matches(31, 12, 9, 3, 1));
+        Assertions.assertFalse(cronSchedule.matches(30, 13, 9, 3, 1));
+
+        // Both day fields restricted, either of them matching is enough
+        /* Given */
+        cronSchedule = compile("0 0 1 * 0 /usr");
+
+        /* Then */
+        Assertions.assertTrue(cronSchedule.matches(0, 0, 1, 5, 3));
+        Assertions.assertTrue(cronSchedule.matches(0, 0, 7, 5, 0));
+        Assertions.assertFalse(cronSchedule.matches(0, 0, 7, 5, 3));
+    }
+
+    @Test
+    void testEqualSchedulesForDifferentCommands()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* When */
+        CronSchedule first = compile("*/1 0 1,15 * 1-5 /usr/bin/find");
+        CronSchedule second = compile("* 0 15,1 * 1-5 /usr/bin/ls");
+
+        /* Then */
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    void testInvalidMask() {
+        /* When */
+        Exception exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new CronSchedule(1L, 1 << 24, 2, 2, 1, false, true));
+
+        /* Then */
+        Assertions.assertNotNull(exception);
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new CronSchedule(0L, 1, 2, 2, 1, false, true));
+    }
+}
@@ -0,0 +1,31 @@
+package cronExpression.parser;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+
+/*
+    Compiles expressions for tests that work on CronSchedule rather than on its parsing
+ */
+public final class CronSchedules {
+    // Command appended by compileFields, the schedule does not depend on it
+    private static final String COMMAND = " /usr";
+
+    private CronSchedules() {}
+
+    /*
+        Input: expression of five fields followed by command
+     */
+    public static CronSchedule compile(String expression)
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        return new CronExpressionDescription(new CronExpression(expression)).getSchedule();
+    }
+
+    /*
+        Input: the five schedule fields without command
+     */
+    public static CronSchedule compileFields(String fields)
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        return compile(fields + COMMAND);
+    }
+}
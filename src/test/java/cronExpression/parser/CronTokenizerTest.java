@@ -0,0 +1,52 @@
+package cronExpression.parser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CronTokenizerTest {
+
+    @Test
+    void testTokenizeRunsOfWhiteSpace() {
+        /* Given */
+        String expression = "*/15 \t 0  1,15\t* 1-5 /usr/bin/find";
+        int[] bounds = new int[12];
+
+        /* When */
+        int count = CronTokenizer.tokenize(expression, bounds);
+
+        /* Then */
+        Assertions.assertEquals(6, count);
+        Assertions.assertEquals("*/15", expression.substring(bounds[0], bounds[1]));
+        Assertions.assertEquals("0", expression.substring(bounds[2], bounds[3]));
+        Assertions.assertEquals("1,15", expression.substring(bounds[4], bounds[5]));
+        Assertions.assertEquals("*", expression.substring(bounds[6], bounds[7]));
+        Assertions.assertEquals("1-5", expression.substring(bounds[8], bounds[9]));
+        Assertions.assertEquals("/usr/bin/find", expression.substring(bounds[10], bounds[11]));
+    }
+
+    @Test
+    void testTokenizeCountsTokensBeyondCapacity() {
+        /* Given */
+        int[] bounds = new int[4];
+
+        /* When */
+        int count = CronTokenizer.tokenize("a b c d", bounds);
+
+        /* Then */
+        Assertions.assertEquals(4, count);
+        Assertions.assertEquals(2, bounds[2]);
+        Assertions.assertEquals(3, bounds[3]);
+    }
+
+    @Test
+    void testParseNumber() {
+        Assertions.assertEquals(15, CronTokenizer.parseNumber("*/15", 2, 4));
+        Assertions.assertEquals(-1, CronTokenizer.parseNumber("-1", 0, 2));
+        Assertions.assertEquals(7, CronTokenizer.parseNumber("+7", 0, 2));
+        Assertions.assertEquals(Integer.MIN_VALUE, CronTokenizer.parseNumber("-2147483648", 0, 11));
+        Assertions.assertEquals(CronTokenizer.NOT_A_NUMBER, CronTokenizer.parseNumber("2147483648", 0, 10));
+        Assertions.assertEquals(CronTokenizer.NOT_A_NUMBER, CronTokenizer.parseNumber("", 0, 0));
+        Assertions.assertEquals(CronTokenizer.NOT_A_NUMBER, CronTokenizer.parseNumber("-", 0, 1));
+        Assertions.assertEquals(CronTokenizer.NOT_A_NUMBER, CronTokenizer.parseNumber("1A", 0, 2));
+    }
+}
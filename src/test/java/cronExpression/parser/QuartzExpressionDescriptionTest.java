@@ -0,0 +1,98 @@
+package cronExpression.parser;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class QuartzExpressionDescriptionTest {
+
+    private static String line(String name, String values) {
+        StringBuilder lineBuilder = new StringBuilder(name);
+        while(lineBuilder.length() < 14) {
+            lineBuilder.append(' ');
+        }
+        return lineBuilder.append(values).append(System.lineSeparator()).toString();
+    }
+
+    private static QuartzExpressionDescription describe(String expression)
+            throws EmptyExpressionException, IncorrectArgumentsException {
+        return new QuartzExpressionDescription(new CronExpression(expression));
+    }
+
+    @Test
+    void testDescription() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        QuartzExpressionDescription quartzExpressionDescription = describe("0/20 15 10 ? JAN-MAR 6#3 2024-2026");
+
+        /* When */
+        String description = quartzExpressionDescription.getDescription();
+
+        /* Then */
+        Assertions.assertEquals(line("second", "0 20 40") + line("minute", "15") + line("hour", "10")
+                + line("day of month", "?") + line("month", "1 2 3") + line("day of week", "6#3")
+                + line("year", "2024 2025 2026"), description);
+    }
+
+    @Test
+    void testDayOfMonthSpecials() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Then */
+        Assertions.assertEquals(0, describe("0 0 0 L * ?").getSchedule().getLastDayOffset());
+        Assertions.assertEquals(5, describe("0 0 0 L-5 * ?").getSchedule().getLastDayOffset());
+        Assertions.assertTrue(describe("0 0 0 LW * ?").getSchedule().isLastWeekday());
+        Assertions.assertEquals(1 << 15, describe("0 0 0 15W * ?").getSchedule().getNearestWeekdays());
+        Assertions.assertEquals((1 << 1) | (1 << 15), describe("0 0 0 1,15 * ?").getSchedule().getDaysOfMonth());
+        Assertions.assertTrue(describe("0 0 0 1,15 * ?").getDescription()
+                .contains(line("day of month", "1 15") + line("month", "1 2 3 4 5 6 7 8 9 10 11 12")));
+    }
+
+    @Test
+    void testDayOfWeekSpecials() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Then */
+        Assertions.assertEquals(1 << 6, describe("0 0 0 ? * L").getSchedule().getDaysOfWeek());
+        Assertions.assertEquals(0, describe("0 0 0 ? * L").getSchedule().getLastDaysOfWeek());
+        Assertions.assertEquals(1 << 5, describe("0 0 0 ? * FRIL").getSchedule().getLastDaysOfWeek());
+        Assertions.assertEquals(1L << (7 * 2 + 1), describe("0 0 0 ? * 2#3").getSchedule().getNthDaysOfWeek());
+        // MON-FRI is 2-6 in Quartz numbering, kept with 0 for Sunday in the schedule
+        Assertions.assertEquals(0b111110, describe("0 0 0 ? * MON-FRI").getSchedule().getDaysOfWeek());
+        Assertions.assertTrue(describe("0 0 0 ? * 2-6").getDescription().contains(line("day of week", "2 3 4 5 6")));
+    }
+
+    @Test
+    void testInvalidDayFields() throws EmptyExpressionException, IncorrectArgumentsException {
+        /* Then */
+        Assertions.assertThrows(InvalidInputException.class, () -> describe("0 0 0 ? * ?").getSchedule());
+        Assertions.assertThrows(InvalidInputException.class, () -> describe("0 0 0 1 * MON").getSchedule());
+        Assertions.assertThrows(InvalidInputException.class, () -> describe("0 0 0 L-31 * ?").getSchedule());
+        Assertions.assertThrows(InvalidInputException.class, () -> describe("0 0 0 32W * ?").getSchedule());
+        Assertions.assertThrows(InvalidInputException.class, () -> describe("0 0 0 ? * 2#6").getSchedule());
+        Assertions.assertThrows(InvalidInputException.class, () -> describe("0 0 0 ? * 8L").getSchedule());
+        Assertions.assertThrows(InvalidInputException.class, () -> describe("60 0 0 ? * *").getSchedule());
+    }
+
+    @Test
+    void testYears() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        QuartzSchedule quartzSchedule = describe("0 0 0 1 1 ? 2020,2090/5").getSchedule();
+
+        /* Then */
+        Assertions.assertTrue(quartzSchedule.containsYear(2020));
+        Assertions.assertFalse(quartzSchedule.containsYear(2021));
+        Assertions.assertTrue(quartzSchedule.containsYear(2095));
+        Assertions.assertEquals(2090, quartzSchedule.nextYear(2021));
+        Assertions.assertEquals(-1, quartzSchedule.nextYear(2096));
+        Assertions.assertEquals(2020, quartzSchedule.previousYear(2089));
+        Assertions.assertTrue(describe("0 0 0 1 1 ?").getSchedule().containsYear(2099));
+        Assertions.assertThrows(InvalidInputException.class, () -> describe("0 0 0 1 1 ? 2100").getSchedule());
+        Assertions.assertThrows(InvalidInputException.class, () -> describe("0 0 0 1 1 ? 2030-2020").getSchedule());
+        Assertions.assertThrows(InvalidInputException.class, () -> describe("0 0 0 1 1 ? 1969").getSchedule());
+    }
+
+    @Test
+    void testWrongNumberOfParts() {
+        /* Then */
+        Assertions.assertThrows(IncorrectArgumentsException.class, () -> describe("0 0 1 * ?"));
+        Assertions.assertThrows(IncorrectArgumentsException.class, () -> describe("0 0 0 1 * ? 2024 /usr/bin/find"));
+    }
+}
@@ -0,0 +1,72 @@
+package cronExpression.parser;
+
+import cronExpression.enums.OutputFieldName;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class StepTableTest {
+
+    @Test
+    void testMaskMatchesStepWalkForEveryFieldAndStep() {
+        for(OutputFieldName outputFieldName : OutputFieldName.values()) {
+            if(outputFieldName == OutputFieldName.YEAR) {
+                continue;
+            }
+            for(int step = 1; step <= 100; step++) {
+                /* Given */
+                long expected = 0;
+                for(int value = outputFieldName.getBegin(); value <= outputFieldName.getEnd(); value += step) {
+                    expected |= 1L << value;
+                }
+
+                /* When */
+                long mask = StepTable.mask(outputFieldName, step);
+
+                /* Then */
+                Assertions.assertEquals(expected, mask, outputFieldName + " */" + step);
+            }
+        }
+    }
+
+    @Test
+    void testAsteriskIsFullMask() {
+        for(OutputFieldName outputFieldName : OutputFieldName.values()) {
+            if(outputFieldName == OutputFieldName.YEAR) {
+                continue;
+            }
+            Assertions.assertEquals(CronSchedule.fullMask(outputFieldName), StepTable.mask(outputFieldName, 1));
+        }
+        Assertions.assertEquals(1L, StepTable.mask(OutputFieldName.MINUTE, Integer.MAX_VALUE));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StepTable.mask(OutputFieldName.MINUTE, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StepTable.mask(OutputFieldName.YEAR, 1));
+    }
+
+    @Test
+    void testStepOf() {
+        /* Given */
+        long quarters = (1L) | (1L << 15) | (1L << 30) | (1L << 45);
+
+        /* Then */
+        Assertions.assertEquals(15, StepTable.stepOf(OutputFieldName.MINUTE, quarters));
+        Assertions.assertEquals(1, StepTable.stepOf(OutputFieldName.DAY_OF_MONTH,
+                CronSchedule.fullMask(OutputFieldName.DAY_OF_MONTH)));
+        Assertions.assertEquals(60, StepTable.stepOf(OutputFieldName.MINUTE, 1L));
+        Assertions.assertEquals(0, StepTable.stepOf(OutputFieldName.MINUTE, quarters | (1L << 50)));
+        Assertions.assertEquals(0, StepTable.stepOf(OutputFieldName.MINUTE, quarters << 1));
+        Assertions.assertEquals(0, StepTable.stepOf(OutputFieldName.MINUTE, 0L));
+    }
+
+    @Test
+    void testRenderedValues() {
+        /* Given */
+        long mask = StepTable.mask(OutputFieldName.HOUR, 6);
+
+        /* Then */
+        Assertions.assertEquals("0 6 12 18", StepTable.renderedValues(OutputFieldName.HOUR, mask, ' '));
+        Assertions.assertEquals("0,6,12,18", StepTable.renderedValues(OutputFieldName.HOUR, mask, ','));
+        Assertions.assertNull(StepTable.renderedValues(OutputFieldName.HOUR, mask, ';'));
+        Assertions.assertNull(StepTable.renderedValues(OutputFieldName.HOUR, mask | 2, ' '));
+        Assertions.assertSame(StepTable.renderedValues(OutputFieldName.HOUR, mask, ' '),
+                StepTable.renderedValues(OutputFieldName.HOUR, mask, ' '));
+    }
+}
@@ -0,0 +1,101 @@
+package cronExpression.parser;
+
+import cronExpression.enums.OutputFieldName;
+import cronExpression.enums.ValidationError;
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ValidationResultTest {
+
+    private static final String[] EXPRESSIONS = {
+            "*/15 0 1,15 * 1-5 /usr/bin/find", "@daily /usr", "*/0 20 1-3 3 2-3 /usr", "*/15 59 1,15 * 1-5 /usr",
+            "*/15 0 1,15 A 1-5 /usr", "*/A 20 1-3 3 2-3 /usr", "*/30 ** 1-3 3 2-3 /usr", "*/3 2 * * ,, /usr",
+            "*/30 20 1,59 3 2-3 /usr", "*/30 20 A,B 3 2-3 /usr", "*/30 20 1-3 -- 2-3 /usr", "*/30 20 1-3 3 1-9 /usr",
+            "0 0,5,99 * * * /usr", "0 0 * * 3-8 /usr", "*/3 2 * * /usr", "", "   ", "* * * * * /usr /usr"
+    };
+
+    /*
+        Message thrown by the exception based API, null if it does not throw
+     */
+    private static String thrownMessage(String expression) {
+        try {
+            new CronExpressionDescription(new CronExpression(expression)).getSchedule();
+            return null;
+        } catch (EmptyExpressionException | IncorrectArgumentsException | InvalidInputException exception) {
+            return exception.getMessage();
+        }
+    }
+
+    @Test
+    void testSameOutcomeAsThrowingApi() {
+        for(String expression : EXPRESSIONS) {
+            /* When */
+            ValidationResult validationResult = CronExpressionDescription.validate(expression);
+
+            /* Then */
+            String expected = thrownMessage(expression);
+            Assertions.assertEquals(expected == null, validationResult.isValid(), expression);
+            Assertions.assertEquals(expected, validationResult.getMessage(), expression);
+        }
+    }
+
+    @Test
+    void testValidResultCarriesSchedule()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* When */
+        ValidationResult validationResult = CronExpressionDescription.validate("*/15 0 1,15 * 1-5 /usr/bin/find");
+
+        /* Then */
+        Assertions.assertTrue(validationResult.isValid());
+        Assertions.assertNull(validationResult.getError());
+        Assertions.assertNull(validationResult.getOutputFieldName());
+        Assertions.assertEquals(-1, validationResult.getColumn());
+        Assertions.assertEquals(
+                new CronExpressionDescription(new CronExpression("*/15 0 1,15 * 1-5 /usr/bin/find")).getSchedule(),
+                validationResult.getSchedule());
+    }
+
+    @Test
+    void testFieldAndColumnOfFailure() {
+        /* When */
+        ValidationResult listElement = CronExpressionDescription.validate("  0 1,2,X * * * /usr");
+        ValidationResult range = CronExpressionDescription.validate("0 0 * * 3-8 /usr");
+
+        /* Then */
+        Assertions.assertEquals(ValidationError.INVALID_RANGE, listElement.getError());
+        Assertions.assertEquals(OutputFieldName.HOUR, listElement.getOutputFieldName());
+        Assertions.assertEquals(8, listElement.getColumn());
+        Assertions.assertNull(listElement.getSchedule());
+
+        Assertions.assertEquals(ValidationError.INVALID_RANGE_START_END, range.getError());
+        Assertions.assertEquals(OutputFieldName.DAY_OF_WEEK, range.getOutputFieldName());
+        Assertions.assertEquals(8, range.getColumn());
+    }
+
+    @Test
+    void testArgumentFailures() {
+        Assertions.assertEquals(ValidationError.EMPTY_EXPRESSION, CronExpressionDescription.validate(null).getError());
+        Assertions.assertEquals(ValidationError.EMPTY_EXPRESSION, CronExpressionDescription.validate(" \t").getError());
+        Assertions.assertEquals(ValidationError.INCORRECT_ARGUMENTS,
+                CronExpressionDescription.validate("* * * * /usr").getError());
+        Assertions.assertEquals(ValidationError.INCORRECT_ARGUMENTS,
+                CronExpressionDescription.validate("@reboot /usr").getError());
+    }
+
+    @Test
+    void testInstanceValidationMemoizesSchedule()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        CronExpressionDescription cronExpressionDescription =
+                new CronExpressionDescription(new CronExpression("0 12 * JAN-MAR MON /usr"));
+
+        /* When */
+        ValidationResult validationResult = cronExpressionDescription.validate();
+
+        /* Then */
+        Assertions.assertSame(cronExpressionDescription.getSchedule(), validationResult.getSchedule());
+    }
+}
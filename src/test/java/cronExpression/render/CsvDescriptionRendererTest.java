@@ -0,0 +1,31 @@
+package cronExpression.render;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronExpression;
+import cronExpression.parser.CronExpressionDescription;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+class CsvDescriptionRendererTest {
+
+    @Test
+    void testRender() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException, IOException {
+        /* Given */
+        CsvDescriptionRenderer renderer = new CsvDescriptionRenderer();
+        StringBuilder out = new StringBuilder();
+
+        /* When */
+        renderer.renderHeader(out);
+        new CronExpressionDescription(new CronExpression("*/30 20 1-3 3 2-3 /usr")).describeTo(out, renderer);
+        new CronExpressionDescription(new CronExpression("0 0 1 1 0 /bin/a,\"b\"")).describeTo(out, renderer);
+
+        /* Then */
+        Assertions.assertEquals("minute,hour,day of month,month,day of week,command\r\n"
+                + "0 30,20,1 2 3,3,2 3,/usr\r\n"
+                + "0,0,1,1,0,\"/bin/a,\"\"b\"\"\"\r\n", out.toString());
+    }
+}
@@ -0,0 +1,41 @@
+package cronExpression.render;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronExpression;
+import cronExpression.parser.CronExpressionDescription;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+class JsonDescriptionRendererTest {
+
+    @Test
+    void testRender() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException, IOException {
+        /* Given */
+        CronExpressionDescription cronExpressionDescription =
+                new CronExpressionDescription(new CronExpression("*/15 0 1,15 */4 1-5 /usr/bin/find"));
+        StringBuilder out = new StringBuilder();
+
+        /* When */
+        cronExpressionDescription.describeTo(out, new JsonDescriptionRenderer());
+
+        /* Then */
+        Assertions.assertEquals("{\"minute\":[0,15,30,45],\"hour\":[0],\"dayOfMonth\":[1,15],\"month\":[1,5,9],"
+                + "\"dayOfWeek\":[1,2,3,4,5],\"command\":\"/usr/bin/find\"}", out.toString());
+    }
+
+    @Test
+    void testCommandEscaping() throws IOException {
+        /* Given */
+        StringBuilder out = new StringBuilder();
+
+        /* When */
+        JsonDescriptionRenderer.appendString("echo \"a\\b\"\t", out);
+
+        /* Then */
+        Assertions.assertEquals("\"echo \\\"a\\\\b\\\"\\u0009\"", out.toString());
+    }
+}
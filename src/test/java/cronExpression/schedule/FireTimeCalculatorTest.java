@@ -0,0 +1,107 @@
+package cronExpression.schedule;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronSchedule;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static cronExpression.parser.CronSchedules.compile;
+
+class FireTimeCalculatorTest {
+
+    private static final String[] EXPRESSIONS = {
+            "*/15 0 1,15 * 1-5 /usr", "0 0 * * * /usr", "* * * * * /usr", "30 2 31 * * /usr",
+            "0 12 29 2 * /usr", "5 4 1,15 * 0 /usr", "0 */6 * 3-5 * /usr", "59 23 31 12 * /usr",
+            "0 0 13 * 5 /usr", "0 0 29 2 */2 /usr"
+    };
+
+    private static long bruteForceNext(CronSchedule cronSchedule, LocalDateTime after) {
+        LocalDateTime candidate = after.withSecond(0).withNano(0).plusMinutes(1);
+        // Four years and a bit cover every expression used in tests
+        for(int i = 0; i < 60 * 24 * 366 * 9; i++) {
+            if(cronSchedule.matches(candidate.getMinute(), candidate.getHour(), candidate.getDayOfMonth(),
+                    candidate.getMonthValue(), candidate.getDayOfWeek().getValue() % 7)) {
+                return candidate.toInstant(ZoneOffset.UTC).toEpochMilli();
+            }
+            candidate = candidate.plusMinutes(1);
+        }
+        return FireTimeCalculator.NO_FIRE_TIME;
+    }
+
+    @Test
+    void testNextFireTimeMatchesBruteForce()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        LocalDateTime[] starts = {
+                LocalDateTime.of(2023, 1, 31, 23, 59, 30), LocalDateTime.of(2024, 2, 28, 12, 0),
+                LocalDateTime.of(2023, 12, 31, 23, 59), LocalDateTime.of(1969, 12, 31, 23, 45)
+        };
+        for(String expression : EXPRESSIONS) {
+            CronSchedule cronSchedule = compile(expression);
+            for(LocalDateTime start : starts) {
+                long startMillis = start.toInstant(ZoneOffset.UTC).toEpochMilli();
+
+                /* When */
+                long next = FireTimeCalculator.nextFireTime(cronSchedule, startMillis);
+
+                /* Then */
+                Assertions.assertEquals(bruteForceNext(cronSchedule, start), next, expression + " after " + start);
+                Assertions.assertTrue(FireTimeCalculator.previousFireTime(cronSchedule, next) < next);
+                Assertions.assertEquals(next,
+                        FireTimeCalculator.nextFireTime(cronSchedule,
+                                FireTimeCalculator.previousFireTime(cronSchedule, next)),
+                        expression + " around " + start);
+            }
+        }
+    }
+
+    @Test
+    void testPreviousFireTime() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        CronSchedule cronSchedule = compile("30 2 31 * * /usr");
+
+        /* When */
+        LocalDateTime previous = FireTimeCalculator.previousFireTime(cronSchedule, LocalDateTime.of(2023, 5, 1, 0, 0));
+
+        /* Then */
+        Assertions.assertEquals(LocalDateTime.of(2023, 3, 31, 2, 30), previous);
+
+        /* When */
+        previous = FireTimeCalculator.previousFireTime(cronSchedule, LocalDateTime.of(2023, 3, 31, 2, 30));
+
+        /* Then */
+        Assertions.assertEquals(LocalDateTime.of(2023, 1, 31, 2, 30), previous);
+    }
+
+    @Test
+    void testNeverFiringSchedule() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        CronSchedule cronSchedule = compile("0 0 30 2 * /usr");
+
+        /* Then */
+        Assertions.assertEquals(FireTimeCalculator.NO_FIRE_TIME, FireTimeCalculator.nextFireTime(cronSchedule, 0L));
+        Assertions.assertEquals(FireTimeCalculator.NO_FIRE_TIME, FireTimeCalculator.previousFireTime(cronSchedule, 0L));
+        Assertions.assertNull(FireTimeCalculator.nextFireTime(cronSchedule, LocalDateTime.of(2024, 1, 1, 0, 0)));
+    }
+
+    @Test
+    void testEpochCalendarRoundTrip() {
+        for(long epochDay = -800_000; epochDay <= 800_000; epochDay += 997) {
+            /* When */
+            int date = EpochCalendar.civilFromDays(epochDay);
+            LocalDateTime expected = LocalDateTime.ofEpochSecond(epochDay * 86400, 0, ZoneOffset.UTC);
+
+            /* Then */
+            Assertions.assertEquals(expected.getYear(), EpochCalendar.year(date));
+            Assertions.assertEquals(expected.getMonthValue(), EpochCalendar.month(date));
+            Assertions.assertEquals(expected.getDayOfMonth(), EpochCalendar.dayOfMonth(date));
+            Assertions.assertEquals(expected.getDayOfWeek().getValue() % 7, EpochCalendar.dayOfWeek(epochDay));
+            Assertions.assertEquals(epochDay, EpochCalendar.daysFromCivil(EpochCalendar.year(date),
+                    EpochCalendar.month(date), EpochCalendar.dayOfMonth(date)));
+        }
+    }
+}
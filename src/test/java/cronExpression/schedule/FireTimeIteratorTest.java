@@ -0,0 +1,74 @@
+package cronExpression.schedule;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronSchedule;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.NoSuchElementException;
+
+import static cronExpression.parser.CronSchedules.compile;
+
+class FireTimeIteratorTest {
+
+    private static long millis(LocalDateTime localDateTime) {
+        return localDateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @Test
+    void testFireTimesWithinWindow() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        CronSchedule cronSchedule = compile("*/15 0 1,15 * 1-5 /usr");
+        long from = millis(LocalDateTime.of(2024, 3, 1, 0, 0));
+        long to = millis(LocalDateTime.of(2024, 3, 1, 0, 45));
+
+        /* When */
+        long[] fireTimes = FireTimeIterator.stream(cronSchedule, from, to).toArray();
+
+        /* Then */
+        Assertions.assertArrayEquals(new long[]{from, from + 15 * 60_000, from + 30 * 60_000}, fireTimes);
+    }
+
+    @Test
+    void testEveryMinuteOverAMonth() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        CronSchedule cronSchedule = compile("* * * * * /usr");
+        long from = millis(LocalDateTime.of(2023, 4, 1, 0, 0));
+        long to = millis(LocalDateTime.of(2023, 5, 1, 0, 0));
+
+        /* Then */
+        Assertions.assertEquals(43_200, FireTimeIterator.stream(cronSchedule, from, to).count());
+        Assertions.assertEquals(from + 2 * 60_000, FireTimeIterator.stream(cronSchedule, from).skip(2).findFirst()
+                .getAsLong());
+    }
+
+    @Test
+    void testUnboundedStreamIsLazy() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        CronSchedule cronSchedule = compile("0 12 29 2 * /usr");
+
+        /* When */
+        long[] fireTimes = FireTimeIterator.stream(cronSchedule, millis(LocalDateTime.of(2023, 1, 1, 0, 0)))
+                .limit(3).toArray();
+
+        /* Then */
+        Assertions.assertArrayEquals(new long[]{
+                millis(LocalDateTime.of(2024, 2, 29, 12, 0)), millis(LocalDateTime.of(2028, 2, 29, 12, 0)),
+                millis(LocalDateTime.of(2032, 2, 29, 12, 0))
+        }, fireTimes);
+    }
+
+    @Test
+    void testNeverFiringSchedule() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        FireTimeIterator fireTimeIterator = new FireTimeIterator(compile("0 0 31 4 * /usr"), 0L, Long.MAX_VALUE);
+
+        /* Then */
+        Assertions.assertFalse(fireTimeIterator.hasNext());
+        Assertions.assertThrows(NoSuchElementException.class, fireTimeIterator::nextLong);
+    }
+}
@@ -0,0 +1,62 @@
+package cronExpression.schedule;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronSchedule;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static cronExpression.parser.CronSchedules.compile;
+
+class FireTimelineTest {
+
+    private static final String[] EXPRESSIONS = {
+            "*/15 0 1,15 * 1-5 /usr", "0 0 * * * /usr", "*/7 * * * * /usr", "30 2 31 * * /usr",
+            "0 12 29 2 * /usr", "5 4 1,15 * 0 /usr", "0 */6 * 3-5 * /usr", "0 0 30 2 * /usr"
+    };
+
+    @Test
+    void testMergedOrderMatchesSortedFireTimes()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        long from = LocalDateTime.of(2024, 2, 28, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+        long to = from + 3L * 24 * 60 * 60_000;
+        FireTimeline fireTimeline = new FireTimeline(from);
+        List<long[]> expected = new ArrayList<>();
+        for(int jobId = 0; jobId < EXPRESSIONS.length; jobId++) {
+            CronSchedule cronSchedule = compile(EXPRESSIONS[jobId]);
+            fireTimeline.add(jobId, cronSchedule);
+            int id = jobId;
+            FireTimeIterator.stream(cronSchedule, from, to).forEach(fireTime -> expected.add(new long[]{fireTime, id}));
+        }
+        expected.sort(Comparator.<long[]>comparingLong(event -> event[0]).thenComparingLong(event -> event[1]));
+
+        /* Then */
+        Assertions.assertEquals(EXPRESSIONS.length - 1, fireTimeline.size());
+        for(long[] event : expected) {
+            Assertions.assertTrue(fireTimeline.next());
+            Assertions.assertEquals(event[0], fireTimeline.getFireTime());
+            Assertions.assertEquals(event[1], fireTimeline.getJobId());
+        }
+        Assertions.assertTrue(fireTimeline.peekFireTime() >= to);
+    }
+
+    @Test
+    void testEmptyTimeline() {
+        /* Given */
+        FireTimeline fireTimeline = new FireTimeline(0L);
+
+        /* Then */
+        Assertions.assertFalse(fireTimeline.next());
+        Assertions.assertEquals(FireTimeCalculator.NO_FIRE_TIME, fireTimeline.peekFireTime());
+        Assertions.assertThrows(NoSuchElementException.class, fireTimeline::getFireTime);
+    }
+}
@@ -0,0 +1,121 @@
+package cronExpression.schedule;
+
+import cronExpression.parser.CronExpressionDescription;
+import cronExpression.parser.CronSchedule;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class LoadHistogramTest {
+
+    private static final String[] EXPRESSIONS = {
+            "0 * * * * /usr", "0 * * * * /usr", "*/15 9-17 * * 1-5 /usr", "30 2 1,15 * * /usr", "0 0 13 * 5 /usr",
+            "0 0 29 2 * /usr", "5 4 * * 0 /usr", "*/20 * 1-7 * 1 /usr"
+    };
+
+    private static LoadHistogram histogram() {
+        LoadHistogram loadHistogram = new LoadHistogram();
+        Assertions.assertEquals(1, loadHistogram.addAll(Arrays.asList(
+                EXPRESSIONS[0], EXPRESSIONS[1], EXPRESSIONS[2], EXPRESSIONS[3], EXPRESSIONS[4], EXPRESSIONS[5],
+                EXPRESSIONS[6], EXPRESSIONS[7], "* 24 * * * /usr")));
+        return loadHistogram;
+    }
+
+    private static List<CronSchedule> schedules() {
+        List<CronSchedule> schedules = new ArrayList<>();
+        for(String expression : EXPRESSIONS) {
+            schedules.add(CronExpressionDescription.validate(expression).getSchedule());
+        }
+        return schedules;
+    }
+
+    @Test
+    void testFireCountsMatchBruteForce() {
+        /* Given */
+        LoadHistogram loadHistogram = histogram();
+        LocalDateTime from = LocalDateTime.of(2024, 2, 27, 22, 30, 15);
+        LocalDateTime to = LocalDateTime.of(2024, 3, 4, 3, 7);
+
+        /* When */
+        int[] counts = loadHistogram.fireCounts(from.toInstant(ZoneOffset.UTC).toEpochMilli(),
+                to.toInstant(ZoneOffset.UTC).toEpochMilli());
+
+        /* Then */
+        Assertions.assertEquals(8, loadHistogram.size());
+        LocalDateTime minute = from.withSecond(0).plusMinutes(1);
+        for(int i = 0; i < counts.length; i++, minute = minute.plusMinutes(1)) {
+            int expected = 0;
+            for(CronSchedule cronSchedule : schedules()) {
+                if(cronSchedule.matches(minute.getMinute(), minute.getHour(), minute.getDayOfMonth(),
+                        minute.getMonthValue(), minute.getDayOfWeek().getValue() % 7)) {
+                    expected++;
+                }
+            }
+            Assertions.assertEquals(expected, counts[i], minute.toString());
+        }
+        Assertions.assertEquals(to, minute);
+    }
+
+    @Test
+    void testByMinuteOfDayAndWeek() {
+        /* Given */
+        LoadHistogram loadHistogram = histogram();
+
+        /* When */
+        int[] byMinuteOfDay = loadHistogram.byMinuteOfDay();
+        int[] byMinuteOfWeek = loadHistogram.byMinuteOfWeek();
+
+        /* Then */
+        // 0 * * * * twice, 0 0 13 * 5, 0 0 29 2 * and */20 * 1-7 * 1
+        Assertions.assertEquals(5, byMinuteOfDay[0]);
+        // Two hourly jobs, */15 9-17 and */20
+        Assertions.assertEquals(4, byMinuteOfDay[9 * 60]);
+        Assertions.assertEquals(1, byMinuteOfDay[2 * 60 + 30]);
+        // On Mondays at 09:00, */20 * 1-7 * 1 fires on every day from 1 to 7 and on every Monday
+        Assertions.assertEquals(4, byMinuteOfWeek[1440 + 9 * 60]);
+        // On Saturdays at 09:00 only the hourly jobs and */20 * 1-7 * 1 on days 1 to 7
+        Assertions.assertEquals(3, byMinuteOfWeek[6 * 1440 + 9 * 60]);
+        Assertions.assertEquals(1, byMinuteOfWeek[4 * 60 + 5]);
+        Assertions.assertEquals(0, byMinuteOfWeek[1440 + 4 * 60 + 5]);
+    }
+
+    @Test
+    void testSchedulesThatNeverFireAddNoLoad() {
+        /* Given */
+        LoadHistogram loadHistogram = new LoadHistogram();
+        Assertions.assertEquals(0, loadHistogram.addAll(Arrays.asList("0 0 30 2 * /usr", "0 0 31 4,6 * /usr")));
+
+        /* When */
+        int[] byMinuteOfDay = loadHistogram.byMinuteOfDay();
+        int[] byMinuteOfWeek = loadHistogram.byMinuteOfWeek();
+
+        /* Then */
+        Assertions.assertEquals(2, loadHistogram.size());
+        Assertions.assertEquals(0, Arrays.stream(byMinuteOfDay).sum());
+        Assertions.assertEquals(0, Arrays.stream(byMinuteOfWeek).sum());
+    }
+
+    @Test
+    void testMillionSchedules() {
+        /* Given */
+        LoadHistogram loadHistogram = new LoadHistogram();
+        List<CronSchedule> schedules = schedules();
+
+        /* When */
+        for(int i = 0; i < 1_000_000; i++) {
+            loadHistogram.add(schedules.get(i % schedules.size()));
+        }
+        int[] year = loadHistogram.fireCounts(0, 365L * 86_400_000L);
+
+        /* Then */
+        Assertions.assertEquals(1_000_000, loadHistogram.size());
+        Assertions.assertEquals(365 * 1440, year.length);
+        // 01:00 is a fire time of 0 * * * * twice and of */20 * 1-7 * 1, three of the eight schedules
+        Assertions.assertEquals(375_000, loadHistogram.byMinuteOfDay()[60]);
+    }
+}
@@ -0,0 +1,144 @@
+package cronExpression.schedule;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronExpression;
+import cronExpression.parser.QuartzExpressionDescription;
+import cronExpression.parser.QuartzSchedule;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+
+class QuartzFireTimeCalculatorTest {
+
+    private static QuartzSchedule compile(String expression)
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        return new QuartzExpressionDescription(new CronExpression(expression)).getSchedule();
+    }
+
+    private static long millis(LocalDateTime localDateTime) {
+        return localDateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime next(QuartzSchedule quartzSchedule, LocalDateTime after) {
+        return LocalDateTime.ofEpochSecond(
+                QuartzFireTimeCalculator.nextFireTime(quartzSchedule, millis(after)) / 1000, 0, ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime previous(QuartzSchedule quartzSchedule, LocalDateTime before) {
+        return LocalDateTime.ofEpochSecond(
+                QuartzFireTimeCalculator.previousFireTime(quartzSchedule, millis(before)) / 1000, 0, ZoneOffset.UTC);
+    }
+
+    /*
+        Nearest weekday as described by Quartz, computed with java.time
+     */
+    private static LocalDate nearestWeekday(LocalDate date) {
+        if(date.getDayOfWeek() == DayOfWeek.SATURDAY) {
+            return date.getDayOfMonth() == 1 ? date.plusDays(2) : date.minusDays(1);
+        }
+        if(date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            return date.getDayOfMonth() == date.lengthOfMonth() ? date.minusDays(2) : date.plusDays(1);
+        }
+        return date;
+    }
+
+    @Test
+    void testDaysOfMonthMatchJavaTime() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        QuartzSchedule last = compile("0 0 0 L * ?");
+        QuartzSchedule lastMinusThree = compile("0 0 0 L-3 * ?");
+        QuartzSchedule lastWeekday = compile("0 0 0 LW * ?");
+        QuartzSchedule nearestFirst = compile("0 0 0 1W * ?");
+        QuartzSchedule nearestFifteenth = compile("0 0 0 15W * ?");
+        QuartzSchedule lastFriday = compile("0 0 0 ? * 6L");
+        QuartzSchedule thirdMonday = compile("0 0 0 ? * 2#3");
+        QuartzSchedule fifthSunday = compile("0 0 0 ? * 1#5");
+
+        for(LocalDate month = LocalDate.of(2020, 1, 1); month.getYear() < 2030; month = month.plusMonths(1)) {
+            int year = month.getYear();
+            int monthValue = month.getMonthValue();
+            LocalDate lastDay = month.with(TemporalAdjusters.lastDayOfMonth());
+            LocalDate fifth = month.with(TemporalAdjusters.dayOfWeekInMonth(5, DayOfWeek.SUNDAY));
+
+            /* Then */
+            Assertions.assertEquals(1 << lastDay.getDayOfMonth(),
+                    QuartzFireTimeCalculator.daysOfMonth(last, year, monthValue));
+            Assertions.assertEquals(1 << lastDay.getDayOfMonth() - 3,
+                    QuartzFireTimeCalculator.daysOfMonth(lastMinusThree, year, monthValue));
+            Assertions.assertEquals(1 << nearestWeekday(lastDay).getDayOfMonth(),
+                    QuartzFireTimeCalculator.daysOfMonth(lastWeekday, year, monthValue));
+            Assertions.assertEquals(1 << nearestWeekday(month).getDayOfMonth(),
+                    QuartzFireTimeCalculator.daysOfMonth(nearestFirst, year, monthValue));
+            Assertions.assertEquals(1 << nearestWeekday(month.withDayOfMonth(15)).getDayOfMonth(),
+                    QuartzFireTimeCalculator.daysOfMonth(nearestFifteenth, year, monthValue));
+            Assertions.assertEquals(1 << month.with(TemporalAdjusters.lastInMonth(DayOfWeek.FRIDAY)).getDayOfMonth(),
+                    QuartzFireTimeCalculator.daysOfMonth(lastFriday, year, monthValue));
+            Assertions.assertEquals(
+                    1 << month.with(TemporalAdjusters.dayOfWeekInMonth(3, DayOfWeek.MONDAY)).getDayOfMonth(),
+                    QuartzFireTimeCalculator.daysOfMonth(thirdMonday, year, monthValue));
+            Assertions.assertEquals(fifth.getMonthValue() == monthValue ? 1 << fifth.getDayOfMonth() : 0,
+                    QuartzFireTimeCalculator.daysOfMonth(fifthSunday, year, monthValue));
+        }
+    }
+
+    @Test
+    void testNextAndPreviousFireTime() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        QuartzSchedule everyTenSeconds = compile("*/10 * * ? * *");
+        QuartzSchedule lastFridayAtNoon = compile("30 0 12 ? * 6L");
+
+        /* Then */
+        Assertions.assertEquals(LocalDateTime.of(2024, 3, 1, 0, 0, 10),
+                next(everyTenSeconds, LocalDateTime.of(2024, 3, 1, 0, 0, 0)));
+        Assertions.assertEquals(LocalDateTime.of(2024, 3, 1, 0, 1, 0),
+                next(everyTenSeconds, LocalDateTime.of(2024, 3, 1, 0, 0, 55)));
+        Assertions.assertEquals(LocalDateTime.of(2024, 2, 29, 23, 59, 50),
+                previous(everyTenSeconds, LocalDateTime.of(2024, 3, 1, 0, 0, 0)));
+
+        Assertions.assertEquals(LocalDateTime.of(2024, 3, 29, 12, 0, 30),
+                next(lastFridayAtNoon, LocalDateTime.of(2024, 2, 23, 12, 0, 30)));
+        Assertions.assertEquals(LocalDateTime.of(2024, 2, 23, 12, 0, 30),
+                previous(lastFridayAtNoon, LocalDateTime.of(2024, 3, 29, 12, 0, 30)));
+    }
+
+    @Test
+    void testDayOfWeekLIsEverySaturday() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        QuartzSchedule saturdays = compile("0 0 0 ? * L");
+        LocalDateTime time = LocalDateTime.of(2024, 2, 1, 0, 0);
+
+        for(int week = 0; week < 8; week++) {
+            /* When */
+            time = next(saturdays, time);
+
+            /* Then */
+            Assertions.assertEquals(LocalDateTime.of(2024, 2, 3, 0, 0).plusWeeks(week), time);
+        }
+    }
+
+    @Test
+    void testYearBounds() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        QuartzSchedule onlyIn2030 = compile("0 0 0 1 1 ? 2030");
+        QuartzSchedule everyLeapDay = compile("0 0 0 29 2 ?");
+
+        /* Then */
+        Assertions.assertEquals(LocalDateTime.of(2030, 1, 1, 0, 0),
+                next(onlyIn2030, LocalDateTime.of(2024, 6, 1, 0, 0)));
+        Assertions.assertEquals(FireTimeCalculator.NO_FIRE_TIME,
+                QuartzFireTimeCalculator.nextFireTime(onlyIn2030, millis(LocalDateTime.of(2030, 1, 1, 0, 0))));
+        Assertions.assertEquals(FireTimeCalculator.NO_FIRE_TIME,
+                QuartzFireTimeCalculator.previousFireTime(onlyIn2030, millis(LocalDateTime.of(2030, 1, 1, 0, 0))));
+        Assertions.assertEquals(LocalDateTime.of(2028, 2, 29, 0, 0),
+                next(everyLeapDay, LocalDateTime.of(2024, 2, 29, 0, 0)));
+        Assertions.assertEquals(FireTimeCalculator.NO_FIRE_TIME,
+                QuartzFireTimeCalculator.nextFireTime(everyLeapDay, millis(LocalDateTime.of(2096, 2, 29, 0, 0))));
+    }
+}
@@ -0,0 +1,149 @@
+package cronExpression.schedule;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronSchedule;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static cronExpression.parser.CronSchedules.compileFields;
+
+class ScheduleAlgebraTest {
+
+    private static final String[] EXPRESSIONS = {
+            "* * * * *", "*/15 * * * *", "0,15,30,45 * * * *", "0 0 1-31 * 1-5", "0 0 * * *", "0 0 * * 0-6",
+            "0 0 31 2,4 *", "0 0 31 2,3 *", "0 0 31 3 *", "0 0 * 2 *", "0 0 1-29 2 *", "0 0 */2 * 1-5",
+            "0 0 1,15 * 1-5", "0 0 1,15 * *", "0 0 * * 1-5", "0 0 29 2 1", "0 0 30 2 1", "0 0 13 * 5",
+            "0 12 * * 1,3,5", "0 0 1 1 *", "0 0 * 1 1", "0 0 1-7 * 1"
+    };
+
+    /*
+        Days of a full 400 year cycle on which the schedule fires
+     */
+    private static boolean[] bruteForceDays(CronSchedule cronSchedule) {
+        LocalDate start = LocalDate.of(2000, 1, 1);
+        boolean[] days = new boolean[146097];
+        for(int i = 0; i < days.length; i++) {
+            LocalDate date = start.plusDays(i);
+            days[i] = (cronSchedule.getMonths() & (1 << date.getMonthValue())) != 0
+                    && cronSchedule.matchesDay(date.getDayOfMonth(), date.getDayOfWeek().getValue() % 7);
+        }
+        return days;
+    }
+
+    private static boolean bruteForceSubset(CronSchedule subset, boolean[] subsetDays, CronSchedule superset,
+                                            boolean[] supersetDays) {
+        boolean fires = false;
+        for(int i = 0; i < subsetDays.length; i++) {
+            if(subsetDays[i]) {
+                fires = true;
+                if(!supersetDays[i]) {
+                    return false;
+                }
+            }
+        }
+        return !fires || ((subset.getMinutes() & ~superset.getMinutes()) == 0
+                && (subset.getHours() & ~superset.getHours()) == 0);
+    }
+
+    @Test
+    void testAgainstFourHundredYears() throws EmptyExpressionException, IncorrectArgumentsException,
+            InvalidInputException {
+        CronSchedule[] schedules = new CronSchedule[EXPRESSIONS.length];
+        boolean[][] days = new boolean[EXPRESSIONS.length][];
+        for(int i = 0; i < EXPRESSIONS.length; i++) {
+            schedules[i] = compileFields(EXPRESSIONS[i]);
+            days[i] = bruteForceDays(schedules[i]);
+        }
+        for(int i = 0; i < EXPRESSIONS.length; i++) {
+            for(int j = 0; j < EXPRESSIONS.length; j++) {
+                String pair = EXPRESSIONS[i] + " / " + EXPRESSIONS[j];
+                boolean subset = bruteForceSubset(schedules[i], days[i], schedules[j], days[j]);
+                boolean equivalent = subset && bruteForceSubset(schedules[j], days[j], schedules[i], days[i]);
+
+                /* Then */
+                Assertions.assertEquals(subset, ScheduleAlgebra.isSubset(schedules[i], schedules[j]), pair);
+                Assertions.assertEquals(equivalent, ScheduleAlgebra.isEquivalent(schedules[i], schedules[j]), pair);
+                String first = ScheduleAlgebra.canonicalExpression(schedules[i]);
+                if(first != null) {
+                    Assertions.assertEquals(equivalent, first.equals(ScheduleAlgebra.canonicalExpression(schedules[j])),
+                            pair);
+                }
+                CronSchedule intersection = ScheduleAlgebra.intersection(schedules[i], schedules[j]);
+                if(intersection != null) {
+                    Assertions.assertTrue(ScheduleAlgebra.isSubset(intersection, schedules[i]), pair);
+                    Assertions.assertTrue(ScheduleAlgebra.isSubset(intersection, schedules[j]), pair);
+                }
+                CronSchedule union = ScheduleAlgebra.union(schedules[i], schedules[j]);
+                if(union != null) {
+                    Assertions.assertTrue(ScheduleAlgebra.isSubset(schedules[i], union), pair);
+                    Assertions.assertTrue(ScheduleAlgebra.isSubset(schedules[j], union), pair);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testCanonicalExpression() throws EmptyExpressionException, IncorrectArgumentsException,
+            InvalidInputException {
+        /* Then */
+        Assertions.assertEquals("*/15 * * * *", ScheduleAlgebra.canonicalExpression(compileFields("0,15,30,45 * * * *")));
+        Assertions.assertEquals("* * * * *", ScheduleAlgebra.canonicalExpression(compileFields("*/1 */1 * * 0-6")));
+        Assertions.assertEquals("0 0 * * *", ScheduleAlgebra.canonicalExpression(compileFields("0 0 1-31 * 1-5")));
+        Assertions.assertEquals("0 0 31 3 *", ScheduleAlgebra.canonicalExpression(compileFields("0 0 31 2,3 *")));
+        Assertions.assertEquals("0 0 * 2 *", ScheduleAlgebra.canonicalExpression(compileFields("0 0 1-29 2 *")));
+        Assertions.assertEquals("5-8 * * * *", ScheduleAlgebra.canonicalExpression(compileFields("5,6,7,8 * * * *")));
+        Assertions.assertEquals("5-50/15 0 * * *", ScheduleAlgebra.canonicalExpression(compileFields("5,20,35,50 0 * * *")));
+        Assertions.assertEquals("0 0 */2 * 1-5", ScheduleAlgebra.canonicalExpression(compileFields("0 0 */2 * 1-5")));
+        Assertions.assertEquals("0 0 1,15 * 1-5", ScheduleAlgebra.canonicalExpression(compileFields("0 0 1,15 * MON-FRI")));
+        Assertions.assertEquals("0 0 * 2 1", ScheduleAlgebra.canonicalExpression(compileFields("0 0 30 2 1")));
+        Assertions.assertNull(ScheduleAlgebra.canonicalExpression(compileFields("0 0 30 2 *")));
+    }
+
+    @Test
+    void testIntersectionAndUnion() throws EmptyExpressionException, IncorrectArgumentsException,
+            InvalidInputException {
+        /* When */
+        CronSchedule intersection = ScheduleAlgebra.intersection(compileFields("*/10 * * * *"), compileFields("*/15 9-17 * * *"));
+        CronSchedule union = ScheduleAlgebra.union(compileFields("0 9 * * *"), compileFields("0 17 * * *"));
+
+        /* Then */
+        Assertions.assertEquals("0,30 9-17 * * *", ScheduleAlgebra.canonicalExpression(intersection));
+        Assertions.assertEquals("0 9,17 * * *", ScheduleAlgebra.canonicalExpression(union));
+        Assertions.assertNull(ScheduleAlgebra.union(compileFields("0 9 * * *"), compileFields("30 17 * * *")));
+        Assertions.assertNull(ScheduleAlgebra.intersection(compileFields("0 0 1 * *"), compileFields("0 0 2 * *")));
+        Assertions.assertFalse(ScheduleAlgebra.overlaps(compileFields("0 0 1 * *"), compileFields("0 0 2 * *")));
+        Assertions.assertTrue(ScheduleAlgebra.overlaps(compileFields("0 0 13 * *"), compileFields("0 0 * * 5")));
+    }
+
+    @Test
+    void testCountCommonFireTimes() throws EmptyExpressionException, IncorrectArgumentsException,
+            InvalidInputException {
+        /* Given */
+        CronSchedule first = compileFields("*/10 8-18 * * 1-5");
+        CronSchedule second = compileFields("*/15 * 1,15 * *");
+        LocalDateTime from = LocalDateTime.of(2024, 2, 10, 13, 7);
+        LocalDateTime to = LocalDateTime.of(2024, 4, 1, 9, 45);
+        long expected = 0;
+        for(LocalDateTime minute = from.plusMinutes(1).withSecond(0); minute.isBefore(to); minute = minute.plusMinutes(1)) {
+            int dayOfWeek = minute.getDayOfWeek().getValue() % 7;
+            if(first.matches(minute.getMinute(), minute.getHour(), minute.getDayOfMonth(), minute.getMonthValue(), dayOfWeek)
+                    && second.matches(minute.getMinute(), minute.getHour(), minute.getDayOfMonth(),
+                    minute.getMonthValue(), dayOfWeek)) {
+                expected++;
+            }
+        }
+
+        /* When */
+        long count = ScheduleAlgebra.countCommonFireTimes(first, second,
+                from.toInstant(ZoneOffset.UTC).toEpochMilli() + 1, to.toInstant(ZoneOffset.UTC).toEpochMilli());
+
+        /* Then */
+        Assertions.assertEquals(expected, count);
+    }
+}
@@ -0,0 +1,104 @@
+package cronExpression.schedule;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronSchedule;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static cronExpression.parser.CronSchedules.compile;
+
+class ScheduleColumnsTest {
+
+    private static final String[] EXPRESSIONS = {
+            "*/15 0 1,15 * 1-5 /usr", "0 0 * * * /usr", "* * * * * /usr", "30 2 31 * * /usr",
+            "0 12 29 2 * /usr", "5 4 1,15 * 0 /usr", "0 */6 * 3-5 * /usr", "0 0 13 * 5 /usr"
+    };
+
+    @Test
+    void testMatchesAtAgreesWithScheduleIndex()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        ScheduleColumns scheduleColumns = new ScheduleColumns(16);
+        ScheduleIndex scheduleIndex = new ScheduleIndex();
+        int count = 5000;
+        for(int i = 0; i < count; i++) {
+            CronSchedule cronSchedule = compile(EXPRESSIONS[i % EXPRESSIONS.length]);
+            Assertions.assertEquals(i, scheduleColumns.add(cronSchedule));
+            scheduleIndex.add(cronSchedule);
+        }
+        IndexBuffer indexBuffer = new IndexBuffer(1);
+
+        LocalDateTime time = LocalDateTime.of(2024, 2, 29, 0, 0);
+        for(int minute = 0; minute < 60 * 24 * 3; minute += 7) {
+            long epochMillis = time.plusMinutes(minute).toInstant(ZoneOffset.UTC).toEpochMilli();
+            indexBuffer.clear();
+
+            /* When */
+            int matching = scheduleColumns.matchesAt(epochMillis, indexBuffer);
+
+            /* Then */
+            Assertions.assertEquals(matching, indexBuffer.size());
+            Assertions.assertArrayEquals(scheduleIndex.matchesAt(epochMillis), indexBuffer.toArray());
+        }
+    }
+
+    @Test
+    void testMatchesAppendsToBuffer() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        ScheduleColumns scheduleColumns = new ScheduleColumns();
+        scheduleColumns.add(compile("0 0 * * * /usr"));
+        scheduleColumns.add(compile("0 1 * * * /usr"));
+        scheduleColumns.add(compile("0 0 1 * * /usr"));
+        IndexBuffer indexBuffer = new IndexBuffer();
+
+        /* When */
+        int first = scheduleColumns.matches(0, 0, 1, 1, 1, indexBuffer);
+        int second = scheduleColumns.matches(0, 1, 2, 1, 2, indexBuffer);
+
+        /* Then */
+        Assertions.assertEquals(2, first);
+        Assertions.assertEquals(1, second);
+        Assertions.assertArrayEquals(new int[]{0, 2, 1}, indexBuffer.toArray());
+    }
+
+    @Test
+    void testDayFieldsCombineLikeCron() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        ScheduleColumns scheduleColumns = new ScheduleColumns();
+        scheduleColumns.add(compile("0 0 13 * 5 /usr"));
+        scheduleColumns.add(compile("0 0 13 * * /usr"));
+        IndexBuffer indexBuffer = new IndexBuffer();
+
+        /* When */
+        // Friday the 2nd: only the schedule listing both day fields fires
+        scheduleColumns.matches(0, 0, 2, 6, 5, indexBuffer);
+
+        /* Then */
+        Assertions.assertArrayEquals(new int[]{0}, indexBuffer.toArray());
+    }
+
+    @Test
+    void testRemoveMovesLastSchedule() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        ScheduleColumns scheduleColumns = new ScheduleColumns();
+        CronSchedule hourly = compile("0 * * * * /usr");
+        scheduleColumns.add(compile("0 0 1 1 * /usr"));
+        scheduleColumns.add(compile("0 0 2 1 * /usr"));
+        scheduleColumns.add(hourly);
+
+        /* When */
+        int moved = scheduleColumns.remove(0);
+
+        /* Then */
+        Assertions.assertEquals(2, moved);
+        Assertions.assertEquals(2, scheduleColumns.size());
+        Assertions.assertEquals(hourly.getMinutes(), scheduleColumns.get(0).getMinutes());
+        Assertions.assertEquals(hourly.getHours(), scheduleColumns.get(0).getHours());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> scheduleColumns.get(2));
+    }
+}
@@ -0,0 +1,81 @@
+package cronExpression.schedule;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronSchedule;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static cronExpression.parser.CronSchedules.compile;
+
+class ScheduleIndexTest {
+
+    private static final String[] EXPRESSIONS = {
+            "*/15 0 1,15 * 1-5 /usr", "0 0 * * * /usr", "* * * * * /usr", "30 2 31 * * /usr",
+            "0 12 29 2 * /usr", "5 4 1,15 * 0 /usr", "0 */6 * 3-5 * /usr", "0 0 13 * 5 /usr"
+    };
+
+    private static int[] bruteForce(ScheduleIndex scheduleIndex, int ids, LocalDateTime time) {
+        List<Integer> matching = new ArrayList<>();
+        for(int id = 0; id < ids; id++) {
+            CronSchedule cronSchedule = scheduleIndex.get(id);
+            if(cronSchedule != null && cronSchedule.matches(time.getMinute(), time.getHour(), time.getDayOfMonth(),
+                    time.getMonthValue(), time.getDayOfWeek().getValue() % 7)) {
+                matching.add(id);
+            }
+        }
+        return matching.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test
+    void testMatchesAtAgreesWithSchedules()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        ScheduleIndex scheduleIndex = new ScheduleIndex();
+        int count = 3000;
+        for(int i = 0; i < count; i++) {
+            Assertions.assertEquals(i, scheduleIndex.add(compile(EXPRESSIONS[i % EXPRESSIONS.length])));
+        }
+        for(int i = 0; i < count; i += 3) {
+            Assertions.assertTrue(scheduleIndex.remove(i));
+        }
+
+        LocalDateTime time = LocalDateTime.of(2024, 2, 29, 0, 0);
+        for(int minute = 0; minute < 60 * 24 * 3; minute += 7) {
+            LocalDateTime current = time.plusMinutes(minute);
+
+            /* When */
+            int[] matching = scheduleIndex.matchesAt(current.toInstant(ZoneOffset.UTC).toEpochMilli());
+
+            /* Then */
+            Assertions.assertArrayEquals(bruteForce(scheduleIndex, count, current), matching, current.toString());
+        }
+        Assertions.assertEquals(count - count / 3, scheduleIndex.size());
+    }
+
+    @Test
+    void testRemovedIdsAreReused() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        ScheduleIndex scheduleIndex = new ScheduleIndex();
+        int first = scheduleIndex.add(compile("* * * * * /usr"));
+        int second = scheduleIndex.add(compile("0 0 * * * /usr"));
+
+        /* When */
+        Assertions.assertTrue(scheduleIndex.remove(first));
+        Assertions.assertFalse(scheduleIndex.remove(first));
+        int third = scheduleIndex.add(compile("0 0 1 1 * /usr"));
+
+        /* Then */
+        Assertions.assertEquals(first, third);
+        long newYear = LocalDateTime.of(2025, 1, 1, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+        Assertions.assertArrayEquals(new int[]{third, second},
+                scheduleIndex.matchesAt(newYear));
+        Assertions.assertArrayEquals(new int[0], scheduleIndex.matchesAt(newYear + 60_000));
+    }
+}
@@ -0,0 +1,146 @@
+package cronExpression.schedule;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronSchedule;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static cronExpression.parser.CronSchedules.compile;
+
+class ZonedFireTimeCalculatorTest {
+
+    private static final String[] EXPRESSIONS = {
+            "30 2 * * * /usr", "*/20 1-3 * * * /usr", "0 0 * * 0 /usr", "45 1 1,31 * * /usr", "45 1 * * 1,3 /usr",
+            "* * * * * /usr"
+    };
+
+    private static final String[] ZONES = {"America/New_York", "Europe/London", "Australia/Lord_Howe", "Asia/Kolkata"};
+
+    private static boolean matches(CronSchedule cronSchedule, long epochMillis, ZoneId zoneId) {
+        ZonedDateTime local = Instant.ofEpochMilli(epochMillis).atZone(zoneId);
+        return cronSchedule.matches(local.getMinute(), local.getHour(), local.getDayOfMonth(), local.getMonthValue(),
+                local.getDayOfWeek().getValue() % 7);
+    }
+
+    // Longest gap between fire times searched for by the brute force
+    private static final int HORIZON_MINUTES = 60 * 24 * 40;
+
+    /*
+        Fire times found minute by minute: the last one before from, all in [from, to) and the first one at or after to,
+        each side searched up to HORIZON_MINUTES
+     */
+    private static long[] bruteForce(CronSchedule cronSchedule, ZoneId zoneId, long from, long to) {
+        List<Long> fireTimes = new ArrayList<>();
+        long candidate = from - 60_000L;
+        for(int i = 0; i < HORIZON_MINUTES; i++, candidate -= 60_000L) {
+            if(matches(cronSchedule, candidate, zoneId)) {
+                fireTimes.add(candidate);
+                break;
+            }
+        }
+        for(candidate = from; candidate < to; candidate += 60_000L) {
+            if(matches(cronSchedule, candidate, zoneId)) {
+                fireTimes.add(candidate);
+            }
+        }
+        for(int i = 0; i < HORIZON_MINUTES; i++, candidate += 60_000L) {
+            if(matches(cronSchedule, candidate, zoneId)) {
+                fireTimes.add(candidate);
+                break;
+            }
+        }
+        return fireTimes.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long next(long[] fireTimes, long after) {
+        int index = Arrays.binarySearch(fireTimes, after);
+        index = index >= 0 ? index + 1 : -index - 1;
+        return index < fireTimes.length ? fireTimes[index] : FireTimeCalculator.NO_FIRE_TIME;
+    }
+
+    private static long previous(long[] fireTimes, long before) {
+        int index = Arrays.binarySearch(fireTimes, before);
+        index = index >= 0 ? index - 1 : -index - 2;
+        return index >= 0 ? fireTimes[index] : FireTimeCalculator.NO_FIRE_TIME;
+    }
+
+    @Test
+    void testMatchesBruteForceAroundTransitions()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        for(String zone : ZONES) {
+            ZoneId zoneId = ZoneId.of(zone);
+            for(String expression : EXPRESSIONS) {
+                CronSchedule cronSchedule = compile(expression);
+                // Every 7 minutes over the days around the spring and autumn transitions of both hemispheres
+                for(String day : new String[] {"2024-03-09T00:00:00Z", "2024-03-30T00:00:00Z",
+                        "2024-04-06T00:00:00Z", "2024-10-05T12:00:00Z", "2024-10-26T00:00:00Z",
+                        "2024-11-02T12:00:00Z"}) {
+                    long start = Instant.parse(day).toEpochMilli();
+                    long end = start + 2 * 86_400_000L;
+                    long[] fireTimes = bruteForce(cronSchedule, zoneId, start, end + 60_000L);
+                    for(long epochMillis = start; epochMillis < end; epochMillis += 7 * 60_000L + 13) {
+                        /* Then */
+                        Assertions.assertEquals(next(fireTimes, epochMillis),
+                                ZonedFireTimeCalculator.nextFireTime(cronSchedule, zoneId, epochMillis),
+                                expression + " in " + zone + " after " + Instant.ofEpochMilli(epochMillis));
+                        Assertions.assertEquals(previous(fireTimes, epochMillis),
+                                ZonedFireTimeCalculator.previousFireTime(cronSchedule, zoneId, epochMillis),
+                                expression + " in " + zone + " before " + Instant.ofEpochMilli(epochMillis));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSkippedAndRepeatedLocalTimes()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        ZoneId newYork = ZoneId.of("America/New_York");
+        CronSchedule cronSchedule = compile("30 1,2 * * * /usr");
+
+        /* When */
+        ZonedDateTime springFirst = ZonedFireTimeCalculator.nextFireTime(cronSchedule,
+                ZonedDateTime.of(2024, 3, 10, 0, 0, 0, 0, newYork));
+        ZonedDateTime springSecond = ZonedFireTimeCalculator.nextFireTime(cronSchedule, springFirst);
+        ZonedDateTime autumnFirst = ZonedFireTimeCalculator.nextFireTime(cronSchedule,
+                ZonedDateTime.of(2024, 11, 3, 0, 0, 0, 0, newYork));
+        ZonedDateTime autumnSecond = ZonedFireTimeCalculator.nextFireTime(cronSchedule, autumnFirst);
+        ZonedDateTime autumnThird = ZonedFireTimeCalculator.nextFireTime(cronSchedule, autumnSecond);
+
+        /* Then */
+        // 02:30 does not exist on 2024-03-10
+        Assertions.assertEquals(Instant.parse("2024-03-10T06:30:00Z"), springFirst.toInstant());
+        Assertions.assertEquals(Instant.parse("2024-03-11T05:30:00Z"), springSecond.toInstant());
+        // 01:30 happens twice on 2024-11-03, once in EDT and once in EST
+        Assertions.assertEquals(Instant.parse("2024-11-03T05:30:00Z"), autumnFirst.toInstant());
+        Assertions.assertEquals(Instant.parse("2024-11-03T06:30:00Z"), autumnSecond.toInstant());
+        Assertions.assertEquals(Instant.parse("2024-11-03T07:30:00Z"), autumnThird.toInstant());
+        Assertions.assertEquals(autumnSecond, ZonedFireTimeCalculator.previousFireTime(cronSchedule, autumnThird));
+    }
+
+    @Test
+    void testOutsidePrecomputedYears() throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        ZoneId london = ZoneId.of("Europe/London");
+        CronSchedule cronSchedule = compile("0 12 1 7 * /usr");
+
+        /* When */
+        ZonedDateTime next = ZonedFireTimeCalculator.nextFireTime(cronSchedule,
+                ZonedDateTime.of(2250, 1, 1, 0, 0, 0, 0, london));
+
+        /* Then */
+        Assertions.assertEquals(ZonedDateTime.of(2250, 7, 1, 12, 0, 0, 0, london), next);
+        Assertions.assertEquals(ZonedDateTime.of(2249, 7, 1, 12, 0, 0, 0, london),
+                ZonedFireTimeCalculator.previousFireTime(cronSchedule, next));
+    }
+}
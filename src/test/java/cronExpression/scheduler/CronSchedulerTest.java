@@ -0,0 +1,194 @@
+package cronExpression.scheduler;
+
+import cronExpression.exceptions.EmptyExpressionException;
+import cronExpression.exceptions.IncorrectArgumentsException;
+import cronExpression.exceptions.InvalidInputException;
+import cronExpression.parser.CronSchedule;
+import cronExpression.schedule.FireTimeIterator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static cronExpression.parser.CronSchedules.compile;
+
+class CronSchedulerTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long DAY = 24 * 60 * MINUTE;
+
+    private static final long START =
+            LocalDateTime.of(2024, 2, 28, 0, 0, 30).toInstant(ZoneOffset.UTC).toEpochMilli();
+
+    @Test
+    void testCommandsDispatchedAtEveryFireTime()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        AtomicLong clock = new AtomicLong(START);
+        List<Long> fireTimes = new ArrayList<>();
+        List<String> commands = new ArrayList<>();
+        CronScheduler cronScheduler = new CronScheduler(Runnable::run, (jobId, command, fireTime) -> {
+            commands.add(command);
+            fireTimes.add(fireTime);
+        }, clock::get, MINUTE);
+        cronScheduler.schedule("*/15 0 1,15 * 1-5 /usr/bin/find");
+        cronScheduler.schedule("0 12 29 2 * /usr/bin/leap");
+
+        /* When */
+        for(long now = START; now < START + 3 * DAY; now += MINUTE) {
+            clock.set(now);
+            cronScheduler.advanceTo(now);
+        }
+
+        /* Then */
+        List<Long> expected = new ArrayList<>();
+        FireTimeIterator.stream(compile("*/15 0 1,15 * 1-5 /usr"), START, START + 3 * DAY).forEach(expected::add);
+        expected.add(LocalDateTime.of(2024, 2, 29, 12, 0).toInstant(ZoneOffset.UTC).toEpochMilli());
+        expected.sort(Long::compare);
+        Assertions.assertEquals(expected, fireTimes);
+        Assertions.assertTrue(commands.contains("/usr/bin/find"));
+        Assertions.assertTrue(commands.contains("/usr/bin/leap"));
+    }
+
+    @Test
+    void testJumpOverManyTicksDispatchesEveryFireTime()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        AtomicInteger runs = new AtomicInteger();
+        CronScheduler cronScheduler = new CronScheduler(Runnable::run, null, () -> START, MINUTE);
+        cronScheduler.schedule(compile("0 */6 * * * /usr"), runs::incrementAndGet);
+
+        /* When */
+        cronScheduler.advanceTo(START + DAY);
+
+        /* Then */
+        Assertions.assertEquals(4, runs.get());
+    }
+
+    @Test
+    void testCancelledJobIsNotDispatched()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        AtomicInteger runs = new AtomicInteger();
+        CronScheduler cronScheduler = new CronScheduler(Runnable::run, null, () -> START, MINUTE);
+        int jobId = cronScheduler.schedule(compile("* * * * * /usr"), runs::incrementAndGet);
+        cronScheduler.advanceTo(START + 10 * MINUTE);
+
+        /* When */
+        boolean cancelled = cronScheduler.cancel(jobId);
+        cronScheduler.advanceTo(START + DAY);
+
+        /* Then */
+        Assertions.assertTrue(cancelled);
+        Assertions.assertFalse(cronScheduler.cancel(jobId));
+        Assertions.assertEquals(10, runs.get());
+        Assertions.assertEquals(0, cronScheduler.size());
+    }
+
+    @Test
+    void testFailingJobDoesNotStopOthers()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        AtomicInteger runs = new AtomicInteger();
+        CronScheduler cronScheduler = new CronScheduler(Runnable::run, (jobId, command, fireTime) -> {
+            throw new IllegalStateException(command);
+        }, () -> START, MINUTE);
+        cronScheduler.schedule("* * * * * /bin/false");
+        cronScheduler.schedule(compile("* * * * * /usr"), runs::incrementAndGet);
+
+        /* When */
+        cronScheduler.advanceTo(START + 3 * MINUTE);
+
+        /* Then */
+        Assertions.assertEquals(3, runs.get());
+        Assertions.assertEquals(2, cronScheduler.size());
+    }
+
+    @Test
+    void testScheduleNeverFiringIsDropped()
+            throws EmptyExpressionException, IncorrectArgumentsException, InvalidInputException {
+        /* Given */
+        CronScheduler cronScheduler = new CronScheduler(Runnable::run, null, () -> START, MINUTE);
+
+        /* When */
+        cronScheduler.schedule(compile("0 0 30 2 * /usr"), () -> {});
+
+        /* Then */
+        Assertions.assertEquals(0, cronScheduler.size());
+    }
+
+    @Test
+    void testInvalidExpressionThrows() {
+        /* Given */
+        CronScheduler cronScheduler = new CronScheduler(Runnable::run, (jobId, command, fireTime) -> {});
+
+        /* Then */
+        Assertions.assertThrows(InvalidInputException.class, () -> cronScheduler.schedule("61 * * * * /usr"));
+        Assertions.assertThrows(IncorrectArgumentsException.class, () -> cronScheduler.schedule("* * * * /usr"));
+    }
+
+    @Test
+    void testDriverThreadFollowsClock() throws Exception {
+        /* Given */
+        AtomicLong clock = new AtomicLong(START);
+        CountDownLatch latch = new CountDownLatch(3);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CronScheduler cronScheduler = new CronScheduler(executorService, null, clock::get, MINUTE);
+        cronScheduler.schedule(compile("* * * * * /usr"), latch::countDown);
+
+        /* When */
+        cronScheduler.start();
+        clock.set(START + 3 * MINUTE);
+        boolean dispatched;
+        try {
+            dispatched = latch.await(10, TimeUnit.SECONDS);
+        } finally {
+            cronScheduler.close();
+            executorService.shutdown();
+        }
+
+        /* Then */
+        Assertions.assertTrue(dispatched);
+    }
+
+    @Test
+    void testCloseRestoresInterruptStatus() throws Exception {
+        /* Given */
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CronScheduler cronScheduler = new CronScheduler(executorService, null, () -> START, MINUTE);
+        cronScheduler.start();
+
+        /* When */
+        Thread.currentThread().interrupt();
+        cronScheduler.close();
+
+        /* Then */
+        Assertions.assertTrue(Thread.interrupted());
+        Assertions.assertTrue(cronScheduler.awaitTermination(0, TimeUnit.SECONDS));
+        executorService.shutdown();
+    }
+
+    @Test
+    void testShutdownAndAwaitTermination() throws Exception {
+        /* Given */
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CronScheduler cronScheduler = new CronScheduler(executorService, null, () -> START, MINUTE);
+        cronScheduler.start();
+
+        /* When */
+        cronScheduler.shutdown();
+
+        /* Then */
+        Assertions.assertTrue(cronScheduler.awaitTermination(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,100 @@
+package cronExpression.scheduler;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class TimingWheelTest {
+
+    private static ScheduledJob job(int id, long deadlineTick) {
+        ScheduledJob job = new ScheduledJob(id, null, null, null);
+        job.deadlineTick = deadlineTick;
+        return job;
+    }
+
+    @Test
+    void testJobsExpireOnTheirDeadlineAcrossLevels() {
+        /* Given */
+        long start = (1L << 24) - 10;
+        long[] distances = {1, 2, 63, 64, 65, 4095, 4096, 4097, 262_143, 262_144, 262_145, (1L << 24) + 7};
+        TimingWheel timingWheel = new TimingWheel(start);
+        for(int id = 0; id < distances.length; id++) {
+            timingWheel.add(job(id, start + distances[id]));
+        }
+        List<long[]> expired = new ArrayList<>();
+
+        /* When */
+        timingWheel.advanceTo(start + (1L << 24) + 100,
+                job -> expired.add(new long[]{job.id, timingWheel.currentTick()}));
+
+        /* Then */
+        Assertions.assertEquals(distances.length, expired.size());
+        for(int id = 0; id < distances.length; id++) {
+            Assertions.assertEquals(id, expired.get(id)[0]);
+            Assertions.assertEquals(start + distances[id], expired.get(id)[1]);
+        }
+    }
+
+    @Test
+    void testPastDeadlineExpiresOnNextTick() {
+        /* Given */
+        TimingWheel timingWheel = new TimingWheel(100);
+        ScheduledJob job = job(1, 50);
+        List<Long> expired = new ArrayList<>();
+
+        /* When */
+        timingWheel.add(job);
+        timingWheel.advanceTo(200, expiredJob -> expired.add(timingWheel.currentTick()));
+
+        /* Then */
+        Assertions.assertEquals(1, expired.size());
+        Assertions.assertEquals(101L, expired.get(0));
+    }
+
+    @Test
+    void testRemovedJobDoesNotExpire() {
+        /* Given */
+        TimingWheel timingWheel = new TimingWheel(0);
+        ScheduledJob first = job(1, 5000);
+        ScheduledJob second = job(2, 5000);
+        ScheduledJob third = job(3, 5000);
+        timingWheel.add(first);
+        timingWheel.add(second);
+        timingWheel.add(third);
+        List<Integer> expired = new ArrayList<>();
+
+        /* When */
+        timingWheel.remove(second);
+        timingWheel.remove(second);
+        timingWheel.advanceTo(6000, job -> expired.add(job.id));
+
+        /* Then */
+        Assertions.assertEquals(2, expired.size());
+        Assertions.assertTrue(expired.contains(1));
+        Assertions.assertTrue(expired.contains(3));
+        Assertions.assertEquals(-1, second.level);
+    }
+
+    @Test
+    void testJobReaddedFromExpiredCallback() {
+        /* Given */
+        TimingWheel timingWheel = new TimingWheel(0);
+        ScheduledJob job = job(1, 10);
+        timingWheel.add(job);
+        List<Long> expired = new ArrayList<>();
+
+        /* When */
+        timingWheel.advanceTo(100, expiredJob -> {
+            expired.add(timingWheel.currentTick());
+            expiredJob.deadlineTick = timingWheel.currentTick() + 30;
+            timingWheel.add(expiredJob);
+        });
+
+        /* Then */
+        Assertions.assertEquals(4, expired.size());
+        Assertions.assertEquals(10L, expired.get(0));
+        Assertions.assertEquals(100L, expired.get(3));
+    }
+}
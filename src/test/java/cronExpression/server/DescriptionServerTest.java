@@ -0,0 +1,129 @@
+package cronExpression.server;
+
+import cronExpression.cache.CronDescriptionCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class DescriptionServerTest {
+    private static final String NEW_LINE = System.lineSeparator();
+
+    private ExecutorService executor;
+    private DescriptionServer descriptionServer;
+
+    @BeforeEach
+    void start() throws IOException {
+        this.executor = Executors.newFixedThreadPool(2);
+        this.descriptionServer = new DescriptionServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                this.executor, new CronDescriptionCache(16));
+        this.descriptionServer.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.descriptionServer.close();
+        this.executor.shutdown();
+    }
+
+    private HttpURLConnection open(String pathAndQuery) throws IOException {
+        return (HttpURLConnection) new URL("http://127.0.0.1:" + this.descriptionServer.getPort() + pathAndQuery)
+                .openConnection();
+    }
+
+    private static String read(HttpURLConnection connection) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputStream in = connection.getInputStream()) {
+            byte[] buffer = new byte[4096];
+            int read;
+            while((read = in.read(buffer)) >= 0) {
+                bytes.write(buffer, 0, read);
+            }
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private String post(String path, String body) throws IOException {
+        HttpURLConnection connection = open(path);
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return read(connection);
+    }
+
+    @Test
+    void testDescribeFromQuery() throws IOException {
+        /* When */
+        String response = read(open("/describe?expression="
+                + URLEncoder.encode("0 0 1 1 * /usr/bin/find", StandardCharsets.UTF_8.name())));
+
+        /* Then */
+        Assertions.assertTrue(response.startsWith("minute        0" + NEW_LINE + "hour          0" + NEW_LINE));
+        Assertions.assertTrue(response.endsWith("command       /usr/bin/find" + NEW_LINE + NEW_LINE));
+    }
+
+    @Test
+    void testPipelinedBatch() throws IOException {
+        /* When */
+        String response = post("/validate", "* * * * * /usr\n\n* 24 * * * /usr\n* * * *\n");
+
+        /* Then */
+        String[] lines = response.split(NEW_LINE);
+        Assertions.assertEquals(3, lines.length);
+        Assertions.assertEquals("valid", lines[0]);
+        Assertions.assertTrue(lines[1].startsWith("invalid 2 "));
+        Assertions.assertTrue(lines[2].startsWith("invalid -1 "));
+    }
+
+    @Test
+    void testNextFireTimes() throws IOException {
+        /* When */
+        String utc = post("/next?from=0&count=2", "30 2 * * * /usr\n");
+        String zoned = post("/next?from=0&zone=Asia/Kolkata", "30 2 * * * /usr\n");
+        String invalid = post("/next?count=x", "30 2 * * * /usr\n");
+        String zero = post("/next?count=0", "30 2 * * * /usr\n");
+        String negative = post("/next?count=-3", "30 2 * * * /usr\n");
+        String tooMany = post("/next?count=5000", "30 2 * * * /usr\n");
+
+        /* Then */
+        Assertions.assertEquals("1970-01-01T02:30:00Z" + NEW_LINE + "1970-01-02T02:30:00Z" + NEW_LINE, utc);
+        Assertions.assertEquals("1970-01-01T21:00:00Z" + NEW_LINE, zoned);
+        Assertions.assertTrue(invalid.startsWith("error: Invalid parameter"));
+        Assertions.assertTrue(zero.startsWith("error: Invalid parameter"));
+        Assertions.assertTrue(negative.startsWith("error: Invalid parameter"));
+        Assertions.assertTrue(tooMany.startsWith("error: Invalid parameter"));
+    }
+
+    @Test
+    void testMissingExpression() throws IOException {
+        /* When */
+        HttpURLConnection connection = open("/describe");
+
+        /* Then */
+        Assertions.assertEquals(400, connection.getResponseCode());
+    }
+
+    @Test
+    void testMalformedQuery() throws IOException {
+        /* When */
+        HttpURLConnection connection = open("/describe?expression=%zz");
+
+        /* Then */
+        Assertions.assertEquals(400, connection.getResponseCode());
+    }
+}
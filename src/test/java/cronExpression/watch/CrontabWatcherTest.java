@@ -0,0 +1,238 @@
+package cronExpression.watch;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class CrontabWatcherTest {
+
+    private static final class RecordingListener implements CrontabListener {
+        private final List<CrontabEvent> events = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+
+        @Override
+        public void onEvent(CrontabEvent crontabEvent) {
+            this.events.add(crontabEvent);
+        }
+
+        @Override
+        public void onError(Path file, int lineNumber, String message) {
+            this.errors.add(file.getFileName() + ":" + lineNumber);
+        }
+    }
+
+    private static void write(Path file, String... lines) throws IOException {
+        Files.write(file, Arrays.asList(lines), Charset.defaultCharset());
+    }
+
+    @Test
+    void testScanAddsValidLines(@TempDir Path directory) throws IOException {
+        /* Given */
+        write(directory.resolve("jobs"), "# backups", "0 0 * * * /backup", "", "*/5 * * * * /poll", "61 * * * * /bad");
+        write(directory.resolve(".hidden"), "0 0 * * * /hidden");
+        write(directory.resolve("jobs~"), "0 0 * * * /backup");
+        RecordingListener listener = new RecordingListener();
+
+        /* When */
+        try (CrontabWatcher crontabWatcher = new CrontabWatcher(directory, listener)) {
+            crontabWatcher.scan();
+
+            /* Then */
+            Assertions.assertEquals(2, crontabWatcher.size());
+        }
+        Assertions.assertEquals(2, listener.events.size());
+        Assertions.assertEquals(CrontabEvent.Type.ADDED, listener.events.get(0).getType());
+        Assertions.assertEquals(2, listener.events.get(0).getLineNumber());
+        Assertions.assertEquals("/backup", listener.events.get(0).getDescription().getCommand());
+        Assertions.assertEquals(4, listener.events.get(1).getLineNumber());
+        Assertions.assertEquals(Arrays.asList("jobs:5"), listener.errors);
+    }
+
+    @Test
+    void testReloadEmitsOnlyDifferences(@TempDir Path directory) throws IOException {
+        /* Given */
+        Path file = directory.resolve("jobs");
+        write(file, "0 0 * * * /backup", "*/5 * * * * /poll", "0 12 * * 1 /report");
+        RecordingListener listener = new RecordingListener();
+        try (CrontabWatcher crontabWatcher = new CrontabWatcher(directory, listener)) {
+            crontabWatcher.scan();
+            long pollId = listener.events.get(1).getEntryId();
+            long reportId = listener.events.get(2).getEntryId();
+            listener.events.clear();
+
+            /* When */
+            // The report line moves to the top, the poll line is edited, the backup line removed and cleanup appended
+            write(file, "0 12 * * 1 /report", "*/10 * * * * /poll", "# cleanup", "30 1 * * * /cleanup");
+            crontabWatcher.reload(file);
+
+            /* Then */
+            Assertions.assertEquals(3, listener.events.size());
+            CrontabEvent removed = listener.events.get(0);
+            Assertions.assertEquals(CrontabEvent.Type.REMOVED, removed.getType());
+            Assertions.assertEquals("0 0 * * * /backup", removed.getLine());
+            CrontabEvent changed = listener.events.get(1);
+            Assertions.assertEquals(CrontabEvent.Type.CHANGED, changed.getType());
+            Assertions.assertEquals(pollId, changed.getEntryId());
+            Assertions.assertEquals("*/5 * * * * /poll", changed.getPreviousLine());
+            Assertions.assertEquals("/poll", changed.getDescription().getCommand());
+            CrontabEvent added = listener.events.get(2);
+            Assertions.assertEquals(CrontabEvent.Type.ADDED, added.getType());
+            Assertions.assertEquals(4, added.getLineNumber());
+            Assertions.assertNotEquals(reportId, added.getEntryId());
+            Assertions.assertEquals(3, crontabWatcher.size());
+        }
+    }
+
+    @Test
+    void testDeletedFileRemovesAllLines(@TempDir Path directory) throws IOException {
+        /* Given */
+        Path file = directory.resolve("jobs");
+        write(file, "0 0 * * * /backup", "*/5 * * * * /poll");
+        RecordingListener listener = new RecordingListener();
+        try (CrontabWatcher crontabWatcher = new CrontabWatcher(directory, listener)) {
+            crontabWatcher.scan();
+            listener.events.clear();
+
+            /* When */
+            Files.delete(file);
+            crontabWatcher.scan();
+
+            /* Then */
+            Assertions.assertEquals(2, listener.events.size());
+            Assertions.assertEquals(CrontabEvent.Type.REMOVED, listener.events.get(0).getType());
+            Assertions.assertEquals(CrontabEvent.Type.REMOVED, listener.events.get(1).getType());
+            Assertions.assertEquals(0, crontabWatcher.size());
+        }
+    }
+
+    @Test
+    void testPollReloadsChangedFile(@TempDir Path directory) throws IOException, InterruptedException {
+        /* Given */
+        RecordingListener listener = new RecordingListener();
+        try (CrontabWatcher crontabWatcher = new CrontabWatcher(directory, listener)) {
+            crontabWatcher.scan();
+
+            /* When */
+            write(directory.resolve("jobs"), "0 0 * * * /backup");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while(listener.events.isEmpty() && System.nanoTime() < deadline) {
+                crontabWatcher.poll(1, TimeUnit.SECONDS);
+            }
+
+            /* Then */
+            Assertions.assertEquals(1, listener.events.size());
+            Assertions.assertEquals(CrontabEvent.Type.ADDED, listener.events.get(0).getType());
+            Assertions.assertEquals(1, crontabWatcher.size());
+        }
+    }
+
+    @Test
+    void testThrowingListenerReceivesEveryEvent(@TempDir Path directory) throws IOException {
+        /* Given */
+        Path file = directory.resolve("jobs");
+        write(file, "0 0 * * * /backup", "*/5 * * * * /poll");
+        RecordingListener recordingListener = new RecordingListener();
+        boolean[] failing = {true};
+        CrontabListener listener = crontabEvent -> {
+            recordingListener.onEvent(crontabEvent);
+            if(failing[0]) {
+                throw new IllegalStateException("index unavailable for " + crontabEvent.getLine());
+            }
+        };
+        try (CrontabWatcher crontabWatcher = new CrontabWatcher(directory, listener)) {
+            /* When */
+            IllegalStateException failure = Assertions.assertThrows(IllegalStateException.class,
+                    () -> crontabWatcher.reload(file));
+
+            /* Then */
+            // Both lines are delivered, the first failure is rethrown with the second one suppressed
+            Assertions.assertEquals(2, recordingListener.events.size());
+            Assertions.assertEquals("/backup", recordingListener.events.get(0).getDescription().getCommand());
+            Assertions.assertEquals("/poll", recordingListener.events.get(1).getDescription().getCommand());
+            Assertions.assertEquals("index unavailable for 0 0 * * * /backup", failure.getMessage());
+            Assertions.assertEquals(1, failure.getSuppressed().length);
+
+            /* When */
+            failing[0] = false;
+            recordingListener.events.clear();
+            write(file, "0 0 * * * /backup", "*/10 * * * * /poll");
+            crontabWatcher.reload(file);
+
+            /* Then */
+            Assertions.assertEquals(1, recordingListener.events.size());
+            Assertions.assertEquals(CrontabEvent.Type.CHANGED, recordingListener.events.get(0).getType());
+            Assertions.assertEquals(2, crontabWatcher.size());
+        }
+    }
+
+    @Test
+    void testUnreadableFileDoesNotStopOthers(@TempDir Path directory) throws IOException {
+        /* Given */
+        byte[] malformed = {(byte) 0xFF, (byte) 0xFE, (byte) 0xC3, '\n'};
+        Assumptions.assumeTrue(!Charset.defaultCharset().newDecoder().decode(ByteBuffer.wrap(malformed),
+                CharBuffer.allocate(8), true).isUnderflow(), "default charset decodes every byte");
+        Files.write(directory.resolve("binary"), malformed);
+        write(directory.resolve("jobs"), "0 0 * * * /backup");
+        RecordingListener listener = new RecordingListener();
+
+        /* When */
+        try (CrontabWatcher crontabWatcher = new CrontabWatcher(directory, listener)) {
+            crontabWatcher.scan();
+
+            /* Then */
+            Assertions.assertEquals(1, crontabWatcher.size());
+        }
+        Assertions.assertEquals(1, listener.events.size());
+        Assertions.assertEquals(Arrays.asList("binary:0"), listener.errors);
+    }
+
+    @Test
+    void testEnvironmentAssignmentsAreSkipped(@TempDir Path directory) throws IOException {
+        /* Given */
+        write(directory.resolve("jobs"), "SHELL=/bin/sh", "  MAILTO=ops@example.com", "0 0 * * * /backup");
+        RecordingListener listener = new RecordingListener();
+
+        /* When */
+        try (CrontabWatcher crontabWatcher = new CrontabWatcher(directory, listener)) {
+            crontabWatcher.scan();
+        }
+
+        /* Then */
+        Assertions.assertEquals(1, listener.events.size());
+        Assertions.assertTrue(listener.errors.isEmpty());
+    }
+
+    @Test
+    void testRunKeepsInterruptStatus(@TempDir Path directory) throws IOException, InterruptedException {
+        /* Given */
+        AtomicBoolean interrupted = new AtomicBoolean();
+        try (CrontabWatcher crontabWatcher = new CrontabWatcher(directory, new RecordingListener())) {
+            Thread thread = new Thread(() -> {
+                crontabWatcher.run();
+                interrupted.set(Thread.currentThread().isInterrupted());
+            });
+            thread.start();
+
+            /* When */
+            thread.interrupt();
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+
+            /* Then */
+            Assertions.assertFalse(thread.isAlive());
+            Assertions.assertTrue(interrupted.get());
+        }
+    }
+}